@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Throughput and p99 of member reads under high concurrency: platform threads vs the vthreads profile.
+# Needs a JDK 21 toolchain, a running PostgreSQL with the surest-db schema, and `hey`
+# (https://github.com/rakyll/hey) on the PATH.
+#
+#   perf/loadtest/compare_threading.sh [concurrency] [duration]
+set -euo pipefail
+
+CONCURRENCY=${1:-1000}
+DURATION=${2:-60s}
+PORT=8090
+MANAGEMENT_PORT=8091
+BASE="http://localhost:${PORT}/api/v1"
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+OUT="${ROOT}/build/loadtest"
+mkdir -p "${OUT}"
+
+(cd "${ROOT}" && ./gradlew -q bootJar -PjavaVersion=21)
+JAR=$(ls "${ROOT}"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+wait_for_app() {
+  for _ in $(seq 1 60); do
+    curl -sf "http://localhost:${MANAGEMENT_PORT}/actuator/health" > /dev/null && return 0
+    sleep 1
+  done
+  echo "application did not start" >&2
+  return 1
+}
+
+run() {
+  local label=$1 profile=$2
+  # jdk.tracePinnedThreads prints a stack whenever a virtual thread blocks while pinned
+  java -Djdk.tracePinnedThreads=short -jar "${JAR}" ${profile:+--spring.profiles.active=${profile}} \
+    > "${OUT}/${label}-app.log" 2>&1 &
+  local pid=$!
+  trap "kill ${pid} 2> /dev/null || true" EXIT
+  wait_for_app
+
+  curl -sf -X POST "${BASE}/user/register" -H 'Content-Type: application/json' \
+    -d '{"username":"loadtest","password":"loadtest123","roles":["ROLE_ADMIN"]}' > /dev/null || true
+  local token
+  token=$(curl -sf -X POST "${BASE}/auth/login" -H 'Content-Type: application/json' \
+    -d '{"username":"loadtest","password":"loadtest123"}' | sed -E 's/.*"token":"([^"]+)".*/\1/')
+  local member
+  member=$(curl -sf -X POST "${BASE}/members" -H "Authorization: Bearer ${token}" -H 'Content-Type: application/json' \
+    -d "{\"firstName\":\"Load\",\"lastName\":\"Test\",\"dateOfBirth\":\"1990-01-01\",\"email\":\"load-${label}-$$@example.com\"}" \
+    | sed -E 's/.*"memberId":"([^"]+)".*/\1/')
+
+  # Filtered search: not cached, so every request holds a pooled connection
+  hey -z "${DURATION}" -c "${CONCURRENCY}" -H "Authorization: Bearer ${token}" \
+    "${BASE}/members?lastName=te&count=none" > "${OUT}/${label}-search.txt"
+  # Get by id: cache hits, measures the request path itself
+  hey -z "${DURATION}" -c "${CONCURRENCY}" -H "Authorization: Bearer ${token}" \
+    "${BASE}/members/${member}" > "${OUT}/${label}-get.txt"
+
+  kill "${pid}"; wait "${pid}" 2> /dev/null || true
+  trap - EXIT
+}
+
+summary() {
+  local file=$1
+  printf '%-28s %12s %10s\n' "$(basename "${file}" .txt)" \
+    "$(awk '/Requests\/sec/ {print $2}' "${file}")" \
+    "$(awk '/ 99% in/ {print $3}' "${file}")"
+}
+
+run platform ""
+run virtual vthreads
+
+printf '%-28s %12s %10s\n' "run" "req/s" "p99 (s)"
+for f in "${OUT}"/*-search.txt "${OUT}"/*-get.txt; do summary "${f}"; done
+echo "Pinned-thread traces, if any:"
+grep -c "onPinned\|<== monitors" "${OUT}"/virtual-app.log || true
@@ -0,0 +1,30 @@
+-- Seed data for the member mutation pgbench scripts (update in place vs select-then-update).
+--   psql -d surest-db -v rows=1000000 -f perf/pgbench/member_mutation_setup.sql
+\set ON_ERROR_STOP on
+
+DROP SCHEMA IF EXISTS bench_mutation CASCADE;
+CREATE SCHEMA bench_mutation;
+SET search_path = bench_mutation, public;
+
+CREATE TABLE member (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    date_of_birth DATE NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO member (first_name, last_name, date_of_birth, email)
+SELECT 'First' || g, 'Last' || g, DATE '1950-01-01' + (g % 20000), 'member' || g || '@example.com'
+FROM generate_series(1, :rows) AS g;
+
+-- Lets the pgbench scripts pick a random existing id from an integer
+CREATE TABLE member_ids (n INT PRIMARY KEY, id UUID NOT NULL);
+INSERT INTO member_ids (n, id)
+SELECT row_number() OVER (ORDER BY id), id FROM member;
+
+VACUUM ANALYZE member;
+VACUUM ANALYZE member_ids;
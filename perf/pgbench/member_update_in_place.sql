@@ -0,0 +1,11 @@
+-- After: updateMember as a bulk UPDATE by id, then the row read back (MemberRepositoryCustomImpl.updateInPlace)
+\set n random(1, :rows)
+SELECT id AS member_id FROM bench_mutation.member_ids WHERE n = :n \gset
+BEGIN;
+UPDATE bench_mutation.member
+   SET first_name = 'Updated' || :n, last_name = last_name, date_of_birth = date_of_birth,
+       email = email, updated_at = now(), version = version + 1
+ WHERE id = :'member_id';
+SELECT id, created_at, date_of_birth, email, first_name, last_name, updated_at, version
+  FROM bench_mutation.member WHERE id = :'member_id';
+COMMIT;
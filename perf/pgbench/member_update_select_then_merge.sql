@@ -0,0 +1,11 @@
+-- Before: updateMember as findById + save (Hibernate re-writes every column)
+\set n random(1, :rows)
+SELECT id AS member_id FROM bench_mutation.member_ids WHERE n = :n \gset
+BEGIN;
+SELECT id, created_at, date_of_birth, email, first_name, last_name, updated_at
+  FROM bench_mutation.member WHERE id = :'member_id';
+UPDATE bench_mutation.member
+   SET created_at = created_at, date_of_birth = date_of_birth, email = email,
+       first_name = 'Updated' || :n, last_name = last_name, updated_at = now()
+ WHERE id = :'member_id';
+COMMIT;
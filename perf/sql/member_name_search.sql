@@ -0,0 +1,52 @@
+-- Name search plans before and after V3__add_member_name_search_indexes.sql.
+-- Runs in a scratch schema so it never touches real data:
+--   psql -d surest-db -v rows=2000000 -f perf/sql/member_name_search.sql
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS bench_name_search CASCADE;
+CREATE SCHEMA bench_name_search;
+SET search_path = bench_name_search, public;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE TABLE member (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    date_of_birth DATE NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Pseudo-random names drawn from md5 so the trigram distribution is realistic enough
+INSERT INTO member (first_name, last_name, date_of_birth, email)
+SELECT initcap(substr(md5(g::text), 1, 4 + g % 5)),
+       initcap(substr(md5((g * 7)::text), 3, 5 + g % 6)),
+       DATE '1950-01-01' + (g % 20000),
+       'member' || g || '@example.com'
+FROM generate_series(1, :rows) AS g;
+ANALYZE member;
+
+\echo '=== BEFORE: no name indexes ==='
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM member WHERE lower(last_name) LIKE '%abc%' ORDER BY last_name LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM member WHERE lower(last_name) LIKE 'abc%' ORDER BY last_name LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(*) FROM member WHERE lower(first_name) LIKE '%ef1%';
+
+CREATE INDEX idx_member_first_name_trgm ON member USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_member_last_name_trgm ON member USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX idx_member_first_name_prefix ON member (lower(first_name) text_pattern_ops);
+CREATE INDEX idx_member_last_name_prefix ON member (lower(last_name) text_pattern_ops);
+ANALYZE member;
+
+\echo '=== AFTER: trigram + prefix indexes ==='
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM member WHERE lower(last_name) LIKE '%abc%' ORDER BY last_name LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM member WHERE lower(last_name) LIKE 'abc%' ORDER BY last_name LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(*) FROM member WHERE lower(first_name) LIKE '%ef1%';
+
+\echo '=== index sizes ==='
+SELECT relname, pg_size_pretty(pg_relation_size(oid)) FROM pg_class
+WHERE relname LIKE 'idx_member_%' AND relnamespace = 'bench_name_search'::regnamespace;
+
+DROP SCHEMA bench_name_search CASCADE;
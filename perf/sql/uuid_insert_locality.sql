@@ -0,0 +1,57 @@
+-- Insert throughput and primary key index size: random v4 ids vs time-ordered v7 ids (V4).
+-- Runs in a scratch schema so it never touches real data:
+--   psql -d surest-db -v rows=2000000 -f perf/sql/uuid_insert_locality.sql
+-- Requires V4__time_ordered_uuid_defaults.sql to have been applied (for uuid_generate_v7()).
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS bench_uuid CASCADE;
+CREATE SCHEMA bench_uuid;
+SET search_path = bench_uuid, public;
+
+CREATE TABLE member_v4 (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    date_of_birth DATE NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE TABLE member_v7 (LIKE member_v4 INCLUDING ALL);
+ALTER TABLE member_v7 ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+-- Same rows into both tables; compare the two INSERT timings
+INSERT INTO member_v4 (first_name, last_name, date_of_birth, email)
+SELECT 'First' || g, 'Last' || g, DATE '1950-01-01' + (g % 20000), 'member' || g || '@example.com'
+FROM generate_series(1, :rows) AS g;
+
+INSERT INTO member_v7 (first_name, last_name, date_of_birth, email)
+SELECT 'First' || g, 'Last' || g, DATE '1950-01-01' + (g % 20000), 'member' || g || '@example.com'
+FROM generate_series(1, :rows) AS g;
+
+-- Second wave on a warm table, where random keys cause the most page splits and cache misses
+INSERT INTO member_v4 (first_name, last_name, date_of_birth, email)
+SELECT 'First' || g, 'Last' || g, DATE '1950-01-01' + (g % 20000), 'member' || g || '@example.com'
+FROM generate_series(:rows + 1, :rows * 2) AS g;
+
+INSERT INTO member_v7 (first_name, last_name, date_of_birth, email)
+SELECT 'First' || g, 'Last' || g, DATE '1950-01-01' + (g % 20000), 'member' || g || '@example.com'
+FROM generate_series(:rows + 1, :rows * 2) AS g;
+
+VACUUM ANALYZE member_v4;
+VACUUM ANALYZE member_v7;
+
+-- Primary key size: v7 leaves pages ~90% full, v4 leaves them ~70% full after splits
+SELECT c.relname AS index_name,
+       pg_size_pretty(pg_relation_size(c.oid)) AS size,
+       pg_relation_size(c.oid) / current_setting('block_size')::int AS pages
+FROM pg_class c
+WHERE c.relname IN ('member_v4_pkey', 'member_v7_pkey')
+ORDER BY c.relname;
+
+-- Buffers touched by a recent-rows range scan, the typical "latest members" access pattern
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM member_v7 ORDER BY id DESC LIMIT 1000;
+
+DROP SCHEMA bench_uuid CASCADE;
@@ -0,0 +1,80 @@
+package com.surest.member_service.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.surest.member_service.dto.MemberRequest;
+import com.surest.member_service.exception.GlobalExceptionHandler;
+import com.surest.member_service.exception.MemberNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error body construction in {@link GlobalExceptionHandler} for the common 404, 400 and 403 cases.
+ * The handler's logger is switched off so only the body (map, path, timestamp formatting) is
+ * measured; exceptions are created once, as their stack capture belongs to the throwing code.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private WebRequest request;
+    private MemberNotFoundException notFound;
+    private MethodArgumentNotValidException invalid;
+    private AccessDeniedException denied;
+
+    @Setup
+    public void setUp() throws Exception {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/members/0190f0d4-8f6a-7c3e-9a1b-2c3d4e5f6a7b"));
+        notFound = new MemberNotFoundException();
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new MemberRequest(), "memberRequest");
+        bindingResult.addError(new FieldError("memberRequest", "email", "Email should be valid"));
+        bindingResult.addError(new FieldError("memberRequest", "firstName", "First name is required"));
+        MethodParameter parameter = new MethodParameter(
+                ExceptionHandlerBenchmark.class.getDeclaredMethod("createMember", MemberRequest.class), 0);
+        invalid = new MethodArgumentNotValidException(parameter, bindingResult);
+
+        denied = new AccessDeniedException("Access Denied");
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> memberNotFound() {
+        return handler.handleMemberException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> validationFailed() {
+        return handler.handleValidationExceptions(invalid, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> accessDenied() {
+        return handler.handleAccessDenied(denied, request);
+    }
+
+    // Signature the validation failure is reported against
+    @SuppressWarnings("unused")
+    private void createMember(MemberRequest memberRequest) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.surest.member_service.benchmark;
+
+import com.surest.member_service.entities.RoleEntity;
+import com.surest.member_service.entities.UserEntity;
+import com.surest.member_service.service.impl.CustomUserDetailsService;
+import com.surest.member_service.util.JWTUtil;
+import com.surest.member_service.util.JwtAuthFilter;
+import com.surest.member_service.util.TokenVersionRegistry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@link JwtAuthFilter} pass for one request with a no-op chain. The user lookup of legacy
+ * tokens is served from memory, so the difference to the claims path is the cached
+ * loadUserWithoutPassword call and authority mapping only; production adds the cache or DB round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthFilterBenchmark {
+
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthFilter filter;
+    private MockHttpServletRequest claimsRequest;
+    private MockHttpServletRequest legacyRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JWTUtil jwtUtil = JwtTokenBenchmark.jwtUtil(false);
+        TokenVersionRegistry tokenVersions = new TokenVersionRegistry();
+        UserEntity user = UserEntity.builder()
+                .userName("benchmark-user")
+                .passwordHash("unused")
+                .roles(Set.of(RoleEntity.builder().name("ROLE_USER").build()))
+                .build();
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(null, tokenVersions) {
+            @Override
+            public UserDetails loadUserWithoutPassword(String username) {
+                return user;
+            }
+        };
+        filter = new JwtAuthFilter(jwtUtil, userDetailsService, tokenVersions);
+
+        String legacyToken = Jwts.builder()
+                .setSubject("benchmark-user")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(JwtParsingBenchmark.SECRET.getBytes()))
+                .compact();
+        claimsRequest = bearer(jwtUtil.generateToken(user, 0L));
+        legacyRequest = bearer(legacyToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication claimsToken() throws Exception {
+        return filter(claimsRequest);
+    }
+
+    @Benchmark
+    public Authentication legacyToken() throws Exception {
+        return filter(legacyRequest);
+    }
+
+    private Authentication filter(MockHttpServletRequest request) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilterInternal(request, response, CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/members");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
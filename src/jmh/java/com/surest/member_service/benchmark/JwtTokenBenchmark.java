@@ -0,0 +1,64 @@
+package com.surest.member_service.benchmark;
+
+import com.surest.member_service.util.JWTUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuance (login and refresh) and verification (every authenticated request), with and
+ * without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+
+    private static final List<GrantedAuthority> ROLES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private JWTUtil jwtUtil;
+    private JWTUtil cachingJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = jwtUtil(false);
+        cachingJwtUtil = jwtUtil(true);
+        token = jwtUtil.generateToken("benchmark-user", ROLES, 0L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("benchmark-user", ROLES, 0L);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public String extractUsernameCached() {
+        return cachingJwtUtil.extractUsername(token);
+    }
+
+    static JWTUtil jwtUtil(boolean tokenCacheEnabled) {
+        JWTUtil util = new JWTUtil();
+        ReflectionTestUtils.setField(util, "SECRET", JwtParsingBenchmark.SECRET);
+        ReflectionTestUtils.setField(util, "EXPIRATION_TIME", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(util, "tokenCacheEnabled", tokenCacheEnabled);
+        ReflectionTestUtils.setField(util, "tokenCacheMaximumSize", 10_000L);
+        util.init();
+        return util;
+    }
+}
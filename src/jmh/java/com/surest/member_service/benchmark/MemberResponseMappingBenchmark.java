@@ -0,0 +1,58 @@
+package com.surest.member_service.benchmark;
+
+import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.mapper.MemberMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two entity-to-DTO paths used by the member endpoints; they should stay indistinguishable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberResponseMappingBenchmark {
+
+    private final MemberMapper mapper = new MemberMapper();
+    private MemberEntity member;
+
+    @Setup
+    public void setUp() {
+        member = member(0);
+    }
+
+    @Benchmark
+    public MemberResponse mapperToResponse() {
+        return mapper.toResponse(member);
+    }
+
+    @Benchmark
+    public MemberResponse entityToResponse() {
+        return member.toResponse();
+    }
+
+    static MemberEntity member(int i) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return MemberEntity.builder()
+                .memberId(UUID.randomUUID())
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(i))
+                .email("member" + i + "@example.com")
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .build();
+    }
+}
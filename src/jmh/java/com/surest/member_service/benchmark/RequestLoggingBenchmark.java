@@ -0,0 +1,126 @@
+package com.surest.member_service.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request-thread cost of the per-request log lines in {@code MemberServiceImpl}, with eight
+ * threads sharing one file appender as request threads do. {@code sync} is the previous setup
+ * (every call writes and flushes the file). {@code async} queues every event and blocks when the
+ * queue is full, so its score is bounded by what the worker actually writes. {@code async-lossy} is
+ * the {@code logback-spring.xml} setup (INFO discarded near capacity, never blocks); flat-out
+ * logging keeps its queue full, so compare it only together with the discarded count printed at
+ * tear-down. {@code debugDisabled} is the cost left on the request path now that those lines are
+ * DEBUG and the service logger is at INFO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class RequestLoggingBenchmark {
+
+    @Param({"sync", "async", "async-lossy"})
+    public String appender;
+
+    private final UUID memberId = UUID.fromString("0190f0d4-8f6a-7c3e-9a1b-2c3d4e5f6a7b");
+    private LoggerContext context;
+    private Logger logger;
+    private Path directory;
+    private final LongAdder logged = new LongAdder();
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter()); // set by the SLF4J provider for the default context
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile(directory.resolve("application.log").toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> target = file;
+        if (appender.startsWith("async")) {
+            boolean lossy = appender.equals("async-lossy");
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC_FILE");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(lossy ? 1024 : 0);
+            async.setNeverBlock(lossy);
+            async.setMaxFlushTime(0); // drain the whole queue on stop so the written count is exact
+            async.setIncludeCallerData(false);
+            async.addAppender(file);
+            async.start();
+            target = async;
+        }
+
+        logger = context.getLogger("com.surest.member_service.service.impl.MemberServiceImpl");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(target);
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Path log = directory.resolve("application.log");
+        long written;
+        try (var lines = Files.lines(log)) {
+            written = lines.count();
+        }
+        long calls = logged.sum();
+        if (calls > 0) {
+            System.out.printf("%n[%s] info lines: %d logged, %d written, %d discarded%n",
+                    appender, calls, written, calls - written);
+        }
+        try (var files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void infoLine() {
+        logger.info("Member found with ID: {}", memberId);
+        logged.increment();
+    }
+
+    @Benchmark
+    public void debugDisabled() {
+        logger.debug("Member found with ID: {}", memberId);
+    }
+}
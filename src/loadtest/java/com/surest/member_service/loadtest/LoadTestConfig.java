@@ -0,0 +1,101 @@
+package com.surest.member_service.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load test options, given as {@code --name=value} arguments (or {@code -Ploadtest.name=value} through
+ * Gradle). Every run with the same options and seed issues the same request sequence per worker.
+ *
+ * @param members     members seeded before the run
+ * @param users       users seeded before the run (all ADMIN and USER, same password)
+ * @param concurrency worker threads, each with its own token
+ * @param warmup      mix run whose latencies are discarded
+ * @param duration    measured part of the run
+ * @param rate        target requests per second across all workers; 0 runs closed loop (each worker
+ *                    sends as soon as the previous response arrived)
+ * @param mix         relative weight per operation
+ * @param database    {@code h2} (embedded, PostgreSQL mode) or {@code postgres} (the datasource in
+ *                    application.yml, schema migrated by Flyway)
+ * @param seed        random seed for generated data and operation choice
+ * @param logging     {@code quiet} (service logging muted), {@code app} (logback-spring.xml and the
+ *                    application.yml levels) or {@code sync} (the former synchronous console and file
+ *                    appenders with the service logger at DEBUG, from logback-sync.xml)
+ * @param threads     {@code platform} (Tomcat's thread pool) or {@code virtual} (the {@code vthreads}
+ *                    profile; needs a JDK 21+ runtime, e.g. {@code -PjavaVersion=21})
+ * @param output      JSON report location
+ */
+record LoadTestConfig(int members, int users, int concurrency, Duration warmup, Duration duration, int rate,
+                      Map<Operation, Integer> mix, String database, long seed, String logging, String threads,
+                      Path output) {
+
+    static final String DEFAULT_MIX = "login=2,get=50,search=25,create=10,update=10,delete=3";
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        LoadTestConfig config = new LoadTestConfig(
+                Integer.parseInt(options.getOrDefault("members", "10000")),
+                Integer.parseInt(options.getOrDefault("users", "50")),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                Duration.parse("PT" + options.getOrDefault("warmup", "15s")),
+                Duration.parse("PT" + options.getOrDefault("duration", "60s")),
+                Integer.parseInt(options.getOrDefault("rate", "0")),
+                parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                options.getOrDefault("database", "h2"),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                options.getOrDefault("logging", "quiet"),
+                options.getOrDefault("threads", "platform"),
+                Path.of(options.getOrDefault("output", "loadtest-" + timestamp + ".json")));
+        if (config.members() < 1 || config.users() < 1 || config.concurrency() < 1) {
+            throw new IllegalArgumentException("members, users and concurrency must be positive");
+        }
+        if (!config.database().equals("h2") && !config.database().equals("postgres")) {
+            throw new IllegalArgumentException("database must be h2 or postgres");
+        }
+        if (!Set.of("quiet", "app", "sync").contains(config.logging())) {
+            throw new IllegalArgumentException("logging must be quiet, app or sync");
+        }
+        if (!config.threads().equals("platform") && !config.threads().equals("virtual")) {
+            throw new IllegalArgumentException("threads must be platform or virtual");
+        }
+        if (config.threads().equals("virtual") && Runtime.version().feature() < 21) {
+            throw new IllegalArgumentException("threads=virtual needs a JDK 21+ runtime; run with -PjavaVersion=21");
+        }
+        return config;
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in mix but got " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            if (weight > 0) {
+                weights.put(Operation.from(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no operation with a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,94 @@
+package com.surest.member_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Machine-readable result of one run. Field names are stable so reports from different runs (or
+ * branches) can be diffed or loaded into a notebook side by side.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private LoadTestReport() {
+    }
+
+    static Map<String, Object> build(LoadTestConfig config, Map<Operation, OperationStats> stats, Duration measured,
+                                     Instant startedAt) {
+        double seconds = measured.toNanos() / 1e9;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("config", config(config));
+        report.put("measuredSeconds", seconds);
+
+        OperationStats all = new OperationStats();
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) -> {
+            if (operationStats.requests() > 0) {
+                operations.put(operation.key(), summary(operationStats, seconds));
+                all.add(operationStats);
+            }
+        });
+        report.put("all", summary(all, seconds));
+        report.put("operations", operations);
+        return report;
+    }
+
+    static void write(Map<String, Object> report, Path output) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+    }
+
+    private static Map<String, Object> config(LoadTestConfig config) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("members", config.members());
+        values.put("users", config.users());
+        values.put("concurrency", config.concurrency());
+        values.put("warmupSeconds", config.warmup().toSeconds());
+        values.put("durationSeconds", config.duration().toSeconds());
+        values.put("rate", config.rate());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        values.put("mix", mix);
+        values.put("database", config.database());
+        values.put("seed", config.seed());
+        values.put("logging", config.logging());
+        values.put("threads", config.threads());
+        return values;
+    }
+
+    private static Map<String, Object> summary(OperationStats stats, double seconds) {
+        Histogram histogram = stats.latencyMicros();
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("min", histogram.getTotalCount() == 0 ? 0 : histogram.getMinValue());
+        latency.put("mean", histogram.getMean());
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + Double.toString(percentile).replace(".0", "").replace(".", "_"),
+                    histogram.getValueAtPercentile(percentile));
+        }
+        latency.put("max", histogram.getMaxValue());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", stats.requests());
+        summary.put("errors", stats.errors());
+        summary.put("throughputPerSecond", stats.requests() / seconds);
+        summary.put("latencyMicros", latency);
+        summary.put("outcomes", stats.outcomes());
+        return summary;
+    }
+}
@@ -0,0 +1,111 @@
+package com.surest.member_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest.member_service.MemberServiceApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Boots the service on a random port, seeds it, drives the configured request mix over real HTTP
+ * and writes a JSON report with HdrHistogram percentiles per operation. See {@link LoadTestConfig}
+ * for the options and perf/README.md for usage.
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        if (config.database().equals("h2")) {
+            profiles.add("loadtest-h2");
+        }
+        if (config.threads().equals("virtual")) {
+            profiles.add("vthreads");
+        }
+        applyLogging(config.logging());
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemberServiceApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .properties("server.port=0", "management.server.port=0")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            URI api = URI.create("http://localhost:" + port + "/api/v1");
+
+            log.info("Seeding {} members and {} users ({})", config.members(), config.users(), config.database());
+            SeededData data = SeededData.seed(context, config);
+
+            log.info("Running mix {} with {} workers: {} warm-up, {} measured{}", config.mix(), config.concurrency(),
+                    config.warmup(), config.duration(), config.rate() > 0 ? " at " + config.rate() + " req/s" : "");
+            Instant startedAt = Instant.now();
+            RunResult result = run(config, data, api);
+
+            Map<String, Object> report = LoadTestReport.build(config, result.stats(), result.measured(), startedAt);
+            LoadTestReport.write(report, config.output());
+            log.info("Report written to {}", config.output().toAbsolutePath());
+            log.info("Summary: {}", report.get("all"));
+        }
+    }
+
+    // System properties outrank application-loadtest.yml, which mutes the service loggers
+    private static void applyLogging(String logging) {
+        if (logging.equals("quiet")) {
+            return;
+        }
+        System.setProperty("logging.level.root", "INFO");
+        if (logging.equals("sync")) {
+            System.setProperty("logging.config", "classpath:logback-sync.xml");
+            System.setProperty("logging.level.com.surest.member_service", "DEBUG");
+        } else {
+            System.setProperty("logging.level.com.surest.member_service", "INFO");
+        }
+    }
+
+    private static RunResult run(LoadTestConfig config, SeededData data, URI api) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        try {
+            long start = System.nanoTime();
+            long warmupEnd = start + config.warmup().toNanos();
+            long end = warmupEnd + config.duration().toNanos();
+
+            List<Future<Map<Operation, OperationStats>>> results = new ArrayList<>();
+            for (int i = 0; i < config.concurrency(); i++) {
+                results.add(workers.submit(new LoadWorker(i, config, data, client, objectMapper, api, warmupEnd, end)));
+            }
+            Map<Operation, OperationStats> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, OperationStats>> result : results) {
+                result.get().forEach((operation, stats) ->
+                        merged.computeIfAbsent(operation, ignored -> new OperationStats()).add(stats));
+            }
+            // Until the last in-flight request finished, not just the configured duration
+            return new RunResult(merged, Duration.ofNanos(System.nanoTime() - warmupEnd));
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private record RunResult(Map<Operation, OperationStats> stats, Duration measured) {
+    }
+}
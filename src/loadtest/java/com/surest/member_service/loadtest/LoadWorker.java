@@ -0,0 +1,210 @@
+package com.surest.member_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One simulated client: logs in as its own user, then issues operations drawn from the mix until
+ * the run ends. Stats recorded during warm-up are dropped when the measured window starts.
+ * <p>
+ * With a target rate every request has an intended start time and latency is measured from it, so
+ * a stalled server shows up as queueing delay instead of being hidden by fewer requests
+ * (coordinated omission).
+ */
+final class LoadWorker implements Callable<Map<Operation, OperationStats>> {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int index;
+    private final LoadTestConfig config;
+    private final SeededData data;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI api;
+    private final long warmupEndNanos;
+    private final long endNanos;
+    private final SplittableRandom random;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    // Members this worker created and has not deleted yet; deletes only remove these
+    private final Deque<UUID> created = new ArrayDeque<>();
+    private String token;
+    private long sequence;
+
+    LoadWorker(int index, LoadTestConfig config, SeededData data, HttpClient client, ObjectMapper objectMapper,
+               URI api, long warmupEndNanos, long endNanos) {
+        this.index = index;
+        this.config = config;
+        this.data = data;
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.api = api;
+        this.warmupEndNanos = warmupEndNanos;
+        this.endNanos = endNanos;
+        this.random = new SplittableRandom(config.seed() + index);
+        this.operations = config.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += config.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    @Override
+    public Map<Operation, OperationStats> call() throws Exception {
+        token = login().token;
+        if (token == null) {
+            throw new IllegalStateException("Worker " + index + " could not log in");
+        }
+        long intervalNanos = config.rate() > 0 ? 1_000_000_000L * config.concurrency() / config.rate() : 0;
+        // Stagger the workers so a target rate does not start as a burst
+        long intendedStart = System.nanoTime() + (intervalNanos * index) / config.concurrency();
+        boolean measuring = false;
+        while (true) {
+            if (intervalNanos > 0) {
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                intendedStart = System.nanoTime();
+            }
+            if (intendedStart >= endNanos) {
+                return stats;
+            }
+            if (!measuring && intendedStart >= warmupEndNanos) {
+                stats.values().forEach(OperationStats::reset);
+                measuring = true;
+            }
+            Operation operation = next();
+            try {
+                Outcome outcome = execute(operation);
+                stats.get(outcome.operation).record(System.nanoTime() - intendedStart, outcome.status);
+            } catch (HttpTimeoutException e) {
+                stats.get(operation).recordFailure("timeout");
+            } catch (IOException e) {
+                stats.get(operation).recordFailure("io-error");
+            }
+            intendedStart += intervalNanos;
+        }
+    }
+
+    private Operation next() {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private Outcome execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LOGIN -> {
+                LoginResult result = login();
+                if (result.token != null) {
+                    token = result.token;
+                }
+                yield new Outcome(Operation.LOGIN, result.status);
+            }
+            case GET -> new Outcome(operation, send(authorized("/members/" + randomSeededMember()).GET()).statusCode());
+            case SEARCH -> {
+                String lastName = SeededData.LAST_NAMES.get(random.nextInt(SeededData.LAST_NAMES.size()));
+                String prefix = lastName.substring(0, Math.min(3, lastName.length()));
+                yield new Outcome(operation, send(authorized("/members?lastName=" + prefix + "&match=prefix&count=none&size=20")
+                        .GET()).statusCode());
+            }
+            case CREATE -> create();
+            case UPDATE -> {
+                UUID id = created.isEmpty() ? randomSeededMember() : created.peekLast();
+                yield new Outcome(operation, send(authorized("/members/" + id)
+                        .PUT(json(memberBody("upd")))).statusCode());
+            }
+            case DELETE -> {
+                UUID id = created.pollFirst();
+                if (id == null) {
+                    // Nothing of our own to delete yet; creating keeps the seeded set intact
+                    yield create();
+                }
+                yield new Outcome(operation, send(authorized("/members/" + id).DELETE()).statusCode());
+            }
+        };
+    }
+
+    private Outcome create() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(authorized("/members").POST(json(memberBody("new"))));
+        if (response.statusCode() == 201) {
+            created.addLast(UUID.fromString(objectMapper.readTree(response.body()).get("memberId").asText()));
+        }
+        return new Outcome(Operation.CREATE, response.statusCode());
+    }
+
+    private LoginResult login() throws IOException, InterruptedException {
+        String username = data.usernames().get(index % data.usernames().size());
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", SeededData.PASSWORD));
+        HttpResponse<String> response = send(request("/auth/login").POST(json(body)));
+        if (response.statusCode() != 200) {
+            return new LoginResult(response.statusCode(), null);
+        }
+        JsonNode tokens = objectMapper.readTree(response.body());
+        return new LoginResult(response.statusCode(), tokens.get("token").asText());
+    }
+
+    private String memberBody(String kind) throws IOException {
+        long n = sequence++;
+        return objectMapper.writeValueAsString(Map.of(
+                "firstName", "Load",
+                "lastName", SeededData.LAST_NAMES.get(random.nextInt(SeededData.LAST_NAMES.size())),
+                "dateOfBirth", LocalDate.of(1950, 1, 1).plusDays(random.nextInt(20_000)).toString(),
+                "email", kind + "-" + index + "-" + n + "-" + System.nanoTime() + "@loadtest.example.com"));
+    }
+
+    private UUID randomSeededMember() {
+        return data.memberIds().get(random.nextInt(data.memberIds().size()));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(api + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return request(path).header("Authorization", "Bearer " + token);
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return client.send(builder.header("Content-Type", "application/json").build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private record Outcome(Operation operation, int status) {
+    }
+
+    private record LoginResult(int status, String token) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.surest.member_service.loadtest;
+
+import java.util.Arrays;
+
+enum Operation {
+    LOGIN("login"),
+    GET("get"),
+    SEARCH("search"),
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation from(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + key));
+    }
+}
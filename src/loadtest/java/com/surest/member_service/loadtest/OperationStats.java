@@ -0,0 +1,59 @@
+package com.surest.member_service.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies (microseconds) and outcomes of one operation. Each worker owns its own instances, which
+ * are merged once the run is over, so recording needs no synchronization.
+ */
+final class OperationStats {
+
+    private final Histogram latencyMicros = new Histogram(3);
+    private final Map<String, Long> outcomes = new TreeMap<>();
+    private long errors;
+
+    void record(long latencyNanos, int status) {
+        latencyMicros.recordValue(Math.max(1, latencyNanos / 1000));
+        outcomes.merge(Integer.toString(status), 1L, Long::sum);
+        if (status >= 400) {
+            errors++;
+        }
+    }
+
+    // The request never produced a response (connection refused, timeout)
+    void recordFailure(String reason) {
+        outcomes.merge(reason, 1L, Long::sum);
+        errors++;
+    }
+
+    void reset() {
+        latencyMicros.reset();
+        outcomes.clear();
+        errors = 0;
+    }
+
+    void add(OperationStats other) {
+        latencyMicros.add(other.latencyMicros);
+        other.outcomes.forEach((outcome, count) -> outcomes.merge(outcome, count, Long::sum));
+        errors += other.errors;
+    }
+
+    Histogram latencyMicros() {
+        return latencyMicros;
+    }
+
+    Map<String, Long> outcomes() {
+        return outcomes;
+    }
+
+    long requests() {
+        return outcomes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    long errors() {
+        return errors;
+    }
+}
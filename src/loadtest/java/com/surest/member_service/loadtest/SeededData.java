@@ -0,0 +1,87 @@
+package com.surest.member_service.loadtest;
+
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.entities.RoleEntity;
+import com.surest.member_service.entities.UserEntity;
+import com.surest.member_service.repository.MemberRepository;
+import com.surest.member_service.repository.RoleRepository;
+import com.surest.member_service.repository.UserRepository;
+import com.surest.member_service.service.impl.MemberNameIndex;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Members and users written straight through the repositories before the run, so seeding cost is
+ * not part of the measurement.
+ */
+record SeededData(List<UUID> memberIds, List<String> usernames) {
+
+    static final String PASSWORD = "loadtest-password";
+
+    static final List<String> LAST_NAMES = List.of(
+            "Anderson", "Baker", "Carter", "Diaz", "Evans", "Fischer", "Garcia", "Hughes", "Ibrahim", "Jensen",
+            "Kowalski", "Lopez", "Morgan", "Nguyen", "Okafor", "Patel", "Quinn", "Rossi", "Schmidt", "Tanaka",
+            "Usman", "Varga", "Walker", "Xu", "Young", "Zimmerman");
+
+    private static final List<String> FIRST_NAMES = List.of(
+            "Alex", "Blake", "Casey", "Dana", "Eli", "Frankie", "Gray", "Harper", "Indy", "Jordan",
+            "Kai", "Logan", "Morgan", "Noel", "Oakley", "Parker", "Quinn", "Riley", "Sage", "Taylor");
+
+    private static final int SAVE_CHUNK = 1000;
+
+    static SeededData seed(ApplicationContext context, LoadTestConfig config) {
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+
+        Set<RoleEntity> roles = Set.of(role(roleRepository, "ROLE_ADMIN"), role(roleRepository, "ROLE_USER"));
+        // One BCrypt hash for everyone; encoding it per user would dominate seeding time
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<UserEntity> users = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            users.add(UserEntity.builder()
+                    .userName("loadtest-" + runId + "-" + i)
+                    .passwordHash(passwordHash)
+                    .roles(roles)
+                    .build());
+        }
+        List<String> usernames = userRepository.saveAll(users).stream().map(UserEntity::getUsername).toList();
+
+        SplittableRandom random = new SplittableRandom(config.seed());
+        List<UUID> memberIds = new ArrayList<>(config.members());
+        List<MemberEntity> chunk = new ArrayList<>(SAVE_CHUNK);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < config.members(); i++) {
+            chunk.add(MemberEntity.builder()
+                    .firstName(FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())))
+                    .lastName(LAST_NAMES.get(random.nextInt(LAST_NAMES.size())))
+                    .dateOfBirth(LocalDate.of(1950, 1, 1).plusDays(random.nextInt(20_000)))
+                    .email("seed-" + runId + "-" + i + "@loadtest.example.com")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            if (chunk.size() == SAVE_CHUNK || i == config.members() - 1) {
+                memberRepository.saveAll(chunk).forEach(member -> memberIds.add(member.getMemberId()));
+                chunk.clear();
+            }
+        }
+        // The typeahead index was built at startup, before these rows existed
+        context.getBean(MemberNameIndex.class).rebuild();
+        return new SeededData(List.copyOf(memberIds), usernames);
+    }
+
+    private static RoleEntity role(RoleRepository roleRepository, String name) {
+        return roleRepository.findByNameIn(Set.of(name)).stream()
+                .findFirst()
+                .orElseGet(() -> roleRepository.save(RoleEntity.builder().name(name).build()));
+    }
+}
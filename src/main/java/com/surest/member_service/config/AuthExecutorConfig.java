@@ -0,0 +1,41 @@
+package com.surest.member_service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@EnableConfigurationProperties(AuthExecutorProperties.class)
+public class AuthExecutorConfig {
+
+    public static final String EXECUTOR_NAME = "authentication";
+
+    // Fixed-size pool with a bounded queue so a login burst cannot take request threads or CPU from
+    // the member API. Publishes executor.* metrics tagged name=authentication plus auth.login.rejected.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService authenticationExecutor(AuthExecutorProperties properties, MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("auth.login.rejected")
+                .description("Logins refused because the authentication executor was saturated")
+                .register(meterRegistry);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("auth-"),
+                (task, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("Authentication executor saturated");
+                });
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+    }
+}
@@ -0,0 +1,23 @@
+package com.surest.member_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the executor that runs password verification for logins, bound from {@code auth.executor.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "auth.executor")
+public class AuthExecutorProperties {
+
+    // BCrypt is pure CPU; more threads than cores only adds contention with the member API.
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // Logins waiting for a thread; beyond this they are rejected with 429.
+    private int queueCapacity = 200;
+
+    // Sent as Retry-After on rejection.
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
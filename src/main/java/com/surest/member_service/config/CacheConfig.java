@@ -1,17 +1,128 @@
 package com.surest.member_service.config;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.service.impl.MemberCacheLoader;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
 
+    public static final String MEMBERS = "members";
+
+    // Short-lived record of IDs known to be absent, so repeated misses skip the database.
+    public static final String MISSING_MEMBERS = "missing-members";
+
+    // Total matches per search filter, served when a client asks for an estimated count.
+    public static final String MEMBER_COUNTS = "member-counts";
+
+    // Username, roles and account flags by username (no password hash), read for legacy tokens without a roles claim.
+    public static final String USERS = "users";
+
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("members");
+    public CacheManager cacheManager(CacheSpecProperties properties, MemberCacheLoader memberCacheLoader, Environment environment) {
+        // Same switch Spring Boot uses for Tomcat: spring.threads.virtual.enabled on a JDK 21+ runtime
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // A synchronous Caffeine load runs inside ConcurrentHashMap.compute, i.e. a synchronized block, and
+            // pins the carrier thread for the whole JDBC call on JDK 21. Async caches only hold that lock to
+            // install a future; the load itself runs on its own virtual thread and callers park on the future.
+            return asyncCacheManager(properties, memberCacheLoader, virtualThreadExecutor());
+        }
+        return cacheManager(properties, memberCacheLoader);
+    }
+
+    CacheManager cacheManager(CacheSpecProperties properties, MemberCacheLoader memberCacheLoader) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Caches created on demand are bounded by the defaults as well.
+        cacheManager.setCaffeine(builder(properties.getDefaults()));
+        specs(properties).forEach((name, spec) -> cacheManager.registerCustomCache(name, build(spec, loader(name, memberCacheLoader))));
+        return cacheManager;
+    }
+
+    // Loads run on loadExecutor; callers wait on the returned future instead of inside the cache's lock.
+    CacheManager asyncCacheManager(CacheSpecProperties properties, MemberCacheLoader memberCacheLoader, Executor loadExecutor) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.setCaffeine(builder(properties.getDefaults()).executor(loadExecutor));
+        specs(properties).forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, buildAsync(spec, loader(name, memberCacheLoader), loadExecutor)));
+        return cacheManager;
+    }
+
+    private static Map<String, CacheSpecProperties.Spec> specs(CacheSpecProperties properties) {
+        Map<String, CacheSpecProperties.Spec> specs = new LinkedHashMap<>(properties.getSpecs());
+        specs.put(MEMBERS, properties.specFor(MEMBERS));
+        return specs;
+    }
+
+    private static CacheLoader<Object, Object> loader(String name, MemberCacheLoader memberCacheLoader) {
+        return MEMBERS.equals(name) ? memberCacheLoader : null;
+    }
+
+    private static Executor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("cache-load-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    static Cache<Object, Object> build(CacheSpecProperties.Spec spec, CacheLoader<Object, Object> loader) {
+        Caffeine<Object, Object> builder = builder(spec);
+        if (spec.getRefreshAfterWrite() != null && loader != null) {
+            return builder.refreshAfterWrite(spec.getRefreshAfterWrite()).build(loader);
+        }
+        return builder.build();
+    }
+
+    static AsyncCache<Object, Object> buildAsync(CacheSpecProperties.Spec spec, CacheLoader<Object, Object> loader, Executor executor) {
+        Caffeine<Object, Object> builder = builder(spec).executor(executor);
+        if (spec.getRefreshAfterWrite() != null && loader != null) {
+            return builder.refreshAfterWrite(spec.getRefreshAfterWrite()).buildAsync(loader);
+        }
+        return builder.buildAsync();
+    }
+
+    static Caffeine<Object, Object> builder(CacheSpecProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight()).weigher(CacheConfig::weigh);
+        } else {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.isRecordStats()) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    // Rough retained size in bytes; precise enough to keep the heap share of a cache bounded.
+    static int weigh(Object key, Object value) {
+        if (value instanceof MemberResponse member) {
+            return 160 + 2 * (length(member.getFirstName()) + length(member.getLastName()) + length(member.getEmail()));
+        }
+        return 64;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
     }
 }
@@ -0,0 +1,41 @@
+package com.surest.member_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache Caffeine settings bound from {@code cache.specs.<cache-name>.*}.
+ * Caches without an entry fall back to {@link #defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "cache")
+public class CacheSpecProperties {
+
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public Spec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Data
+    public static class Spec {
+        // Ignored when maximumWeight is set; Caffeine allows only one of the two bounds.
+        private long maximumSize = 10_000;
+
+        // Approximate retained bytes, see CacheConfig#weigh.
+        private Long maximumWeight;
+
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        // Only honoured for caches that have a loader registered in CacheConfig.
+        private Duration refreshAfterWrite;
+
+        private boolean recordStats = true;
+    }
+}
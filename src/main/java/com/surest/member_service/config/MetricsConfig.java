@@ -0,0 +1,29 @@
+package com.surest.member_service.config;
+
+import com.surest.member_service.util.JWTUtil;
+import com.surest.member_service.util.QueryCountInspector;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class MetricsConfig {
+
+    // Publishes cache.gets{cache=verifiedTokens,result=hit|miss}, cache.size and cache.evictions.
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(JWTUtil jwtUtil) {
+        return registry -> jwtUtil.verifiedTokenCache()
+                .ifPresent(cache -> CaffeineCacheMetrics.monitor(registry, cache, "verifiedTokens"));
+    }
+
+    // Per-request statement counts for hibernate.statements.per.request (QueryCountFilter).
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer(QueryCountInspector queryCountInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+    }
+}
@@ -0,0 +1,41 @@
+package com.surest.member_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statement budgets per endpoint, bound from {@code query-budget.*} and enforced by
+ * {@link com.surest.member_service.util.QueryCountFilter}.
+ */
+@Data
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+
+    public enum Mode {
+        // warn and count in hibernate.statements.budget.exceeded
+        LOG,
+        // Tests only: additionally throw QueryBudgetExceededException from the filter. MockMvc responses are
+        // never committed, so the test fails. On a servlet container the handler has usually sent the response
+        // by then, and the breach is only logged, as in LOG.
+        FAIL
+    }
+
+    private Mode mode = Mode.LOG;
+
+    // Adds X-Query-Count to every response; leave off in production.
+    private boolean responseHeader = false;
+
+    // Applies to endpoints without their own entry; null means unlimited.
+    private Integer defaultBudget;
+
+    // Keyed by "<METHOD> <route template>", e.g. "GET /api/v1/members/{id}"; a negative budget disables the check.
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public Integer budgetFor(String method, String uriTemplate) {
+        Integer budget = endpoints.getOrDefault(method + " " + uriTemplate, defaultBudget);
+        return budget == null || budget < 0 ? null : budget;
+    }
+}
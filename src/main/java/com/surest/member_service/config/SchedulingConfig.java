@@ -0,0 +1,11 @@
+package com.surest.member_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background maintenance (name index refresh, refresh token purge) runs on Spring Boot's single-threaded task scheduler,
+// sized with spring.task.scheduling.pool.size.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
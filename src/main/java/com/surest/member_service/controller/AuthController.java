@@ -2,6 +2,7 @@ package com.surest.member_service.controller;
 
 import com.surest.member_service.dto.AuthRequest;
 import com.surest.member_service.dto.AuthResponse;
+import com.surest.member_service.dto.RefreshTokenRequest;
 import com.surest.member_service.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -21,10 +24,25 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest authRequest) {
-        log.info("Received login request for username: {}", authRequest.getUsername());
-        AuthResponse response = authService.generateToken(authRequest);
-        log.info("Login successful for username: {}", authRequest.getUsername());
-        return ResponseEntity.ok(response);
+    // Completes asynchronously: the request thread is released while BCrypt runs on the authentication executor
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody AuthRequest authRequest) {
+        log.debug("Received login request for username: {}", authRequest.getUsername());
+        return authService.generateTokenAsync(authRequest).thenApply(response -> {
+            log.debug("Login successful for username: {}", authRequest.getUsername());
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    // Cheap renewal: one indexed lookup and an HMAC signature, no BCrypt
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refreshToken(request.getRefreshToken()));
+    }
+
+    // Logout: revokes every refresh token issued from the same login
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.revokeRefreshToken(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
     }
 }
@@ -1,21 +1,43 @@
 package com.surest.member_service.controller;
 
+import com.surest.member_service.dto.CountMode;
+import com.surest.member_service.dto.ExportFormat;
+import com.surest.member_service.dto.MemberBatchRequest;
+import com.surest.member_service.dto.MemberBatchResponse;
+import com.surest.member_service.dto.MemberImportResponse;
 import com.surest.member_service.dto.MemberRequest;
 import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.dto.MemberSliceResponse;
+import com.surest.member_service.dto.MemberSuggestion;
+import com.surest.member_service.dto.NameMatch;
+import com.surest.member_service.service.MemberExportService;
+import com.surest.member_service.service.MemberImportService;
 import com.surest.member_service.service.MemberService;
+import com.surest.member_service.util.VersionETag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -24,26 +46,87 @@ import java.util.UUID;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
+    private final MemberExportService memberExportService;
+
+    @Value("${member.export.timeout:PT30M}")
+    private Duration exportTimeout;
 
     //Get all members with pagination and optional filtering accessible by USER and ADMIN roles
+    //match=contains (default) | prefix; count=exact (default) | none (slice, no count query) | estimated (cached per filter)
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public Page<MemberResponse> getAllMembers(
+    public Slice<MemberResponse> getAllMembers(
             @RequestParam(required = false) String firstName,
             @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String count,
             @PageableDefault(size = 10)
             @SortDefault.SortDefaults({
                     @SortDefault(sort = "lastName", direction = Sort.Direction.ASC)})
             Pageable pageable
     ) {
-        return memberService.getMembers(firstName, lastName, pageable);
+        return memberService.getMembers(firstName, lastName, NameMatch.from(match), CountMode.from(count), pageable);
+    }
+
+    //Keyset pagination ordered by lastName, cost independent of depth; accessible by USER and ADMIN roles
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public MemberSliceResponse scrollMembers(
+            @RequestParam(required = false) String firstName,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return memberService.scrollMembers(firstName, lastName, NameMatch.from(match), cursor, size);
+    }
+
+    //Typeahead on first/last name prefix, served from the in-memory name index; accessible by USER and ADMIN roles
+    @GetMapping("/typeahead")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public List<MemberSuggestion> typeahead(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return memberService.suggestMembers(prefix, limit);
+    }
+
+    //Full roster export streamed from a database cursor, format=ndjson (default) | csv; accessible by ADMIN only
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@RequestParam(required = false) String format, WebRequest webRequest) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        //a full roster can take minutes; other async requests keep spring.mvc.async.request-timeout
+        AsyncWebRequest asyncRequest = WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest();
+        if (asyncRequest != null) {
+            asyncRequest.setTimeout(exportTimeout.toMillis());
+        }
+        StreamingResponseBody body = out -> memberExportService.exportMembers(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     //Get member by id accessible by USER and ADMIN roles
+    //Strong ETag from the member version; If-None-Match answers 304 without serializing the body
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<MemberResponse> getMemberById(@PathVariable("id") UUID id) {
-        return ResponseEntity.ok(memberService.getMemberById(id));
+    public ResponseEntity<MemberResponse> getMemberById(@PathVariable("id") UUID id, WebRequest webRequest) {
+        MemberResponse member = memberService.getMemberById(id);
+        String etag = VersionETag.of(member.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(member);
+    }
+
+    //Multi-get of up to 500 IDs: cache hits first, one IN query for the rest; accessible by USER and ADMIN roles
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public MemberBatchResponse getMembersByIds(@Valid @RequestBody MemberBatchRequest request) {
+        return memberService.getMembersByIds(request.getIds());
     }
 
     //Get member by email accessible by ADMIN only
@@ -54,19 +137,29 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(memberResponse);
     }
 
+    //Bulk import from a JSON array or NDJSON body, streamed and inserted in JDBC batches; accessible by ADMIN only
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MemberImportResponse> importMembers(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(memberImportService.importMembers(request.getInputStream()));
+    }
+
     //Update member accessible by ADMIN only
+    //Optional If-Match makes the update conditional on the version the client last saw (412 otherwise)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<MemberResponse> updateMember(@PathVariable("id") UUID id, @Valid @RequestBody MemberRequest memberRequest) {
-        MemberResponse updatedMember = memberService.updateMember(id, memberRequest);
-        return ResponseEntity.ok(updatedMember);
+    public ResponseEntity<MemberResponse> updateMember(@PathVariable("id") UUID id, @Valid @RequestBody MemberRequest memberRequest,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        MemberResponse updatedMember = memberService.updateMember(id, memberRequest, VersionETag.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(VersionETag.of(updatedMember.getVersion())).body(updatedMember);
     }
 
     //Delete member accessible by ADMIN only
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteMember(@PathVariable("id") @NotNull UUID memberId) {
-        memberService.deleteMember(memberId);
+    public ResponseEntity<Void> deleteMember(@PathVariable("id") @NotNull UUID memberId,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        memberService.deleteMember(memberId, VersionETag.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
@@ -11,4 +11,6 @@ import lombok.NoArgsConstructor;
 @Builder
 public class AuthResponse {
     private String token;
+    // Opaque, single use: exchange at /api/v1/auth/refresh for a new token pair
+    private String refreshToken;
 }
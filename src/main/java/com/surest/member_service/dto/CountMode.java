@@ -0,0 +1,26 @@
+package com.surest.member_service.dto;
+
+import com.surest.member_service.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * How a member search reports its total: an exact {@code count(*)}, no total at all
+ * (slice with hasNext only), or a per-filter count cached for a short TTL.
+ */
+public enum CountMode {
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("count must be one of exact, none, estimated");
+        }
+    }
+}
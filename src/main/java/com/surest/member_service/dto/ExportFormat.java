@@ -0,0 +1,40 @@
+package com.surest.member_service.dto;
+
+import com.surest.member_service.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * Wire format of a member export: one JSON object per line, or RFC 4180 CSV with a header row.
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("format must be one of ndjson, csv");
+        }
+    }
+}
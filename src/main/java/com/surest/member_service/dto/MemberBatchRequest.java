@@ -0,0 +1,20 @@
+package com.surest.member_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberBatchRequest {
+    @NotEmpty(message = "At least one member ID is required")
+    private List<@NotNull(message = "Member IDs must not be null") UUID> ids;
+}
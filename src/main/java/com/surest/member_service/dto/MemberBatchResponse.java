@@ -0,0 +1,19 @@
+package com.surest.member_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberBatchResponse {
+    // In the order the IDs were requested, duplicates collapsed
+    private List<MemberResponse> members;
+    private List<UUID> missing;
+}
@@ -0,0 +1,25 @@
+package com.surest.member_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportResponse {
+    private long received;
+    private long created;
+    private long duplicates;
+    private long invalid;
+    // false when the body stopped being valid JSON; rows before that point were still imported
+    private boolean completed;
+    private long durationMs;
+    private double rowsPerSecond;
+    // Rejected rows only, capped at member.import.max-reported-rows; the counters are always exact
+    private List<MemberImportRowResult> rejectedRows;
+}
@@ -0,0 +1,25 @@
+package com.surest.member_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportRowResult {
+
+    public enum Status {
+        INVALID,
+        DUPLICATE,
+        MALFORMED
+    }
+
+    // 1-based position of the record in the uploaded stream
+    private long row;
+    private String email;
+    private Status status;
+    private String message;
+}
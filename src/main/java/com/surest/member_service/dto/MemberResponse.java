@@ -21,4 +21,5 @@ public class MemberResponse {
     private String email;
     private Timestamp createdAt;
     private Timestamp updatedAt;
+    private Long version;
 }
@@ -0,0 +1,20 @@
+package com.surest.member_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberSliceResponse {
+    private List<MemberResponse> content;
+    private int size;
+    private boolean hasNext;
+    // Pass back as ?cursor= to read the next slice; null on the last slice.
+    private String nextCursor;
+}
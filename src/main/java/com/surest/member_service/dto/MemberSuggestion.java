@@ -0,0 +1,18 @@
+package com.surest.member_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberSuggestion {
+    private UUID memberId;
+    private String firstName;
+    private String lastName;
+}
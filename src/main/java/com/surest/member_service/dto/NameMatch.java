@@ -0,0 +1,24 @@
+package com.surest.member_service.dto;
+
+import com.surest.member_service.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * How name filters match: anywhere in the name (trigram index) or at its start (B-tree prefix index).
+ */
+public enum NameMatch {
+    CONTAINS,
+    PREFIX;
+
+    public static NameMatch from(String value) {
+        if (value == null || value.isBlank()) {
+            return CONTAINS;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("match must be one of contains, prefix");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.surest.member_service.entities;
 
 import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.util.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,7 +22,7 @@ import java.util.UUID;
 @Table(name = "member")
 public class MemberEntity {
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id")
     private UUID memberId;
 
@@ -45,6 +46,10 @@ public class MemberEntity {
     @Column(name = "updated_at", nullable = false)
     private Timestamp updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public MemberResponse toResponse() {
         return MemberResponse.builder()
                 .memberId(this.memberId)
@@ -54,6 +59,7 @@ public class MemberEntity {
                 .email(this.email)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
+                .version(this.version)
                 .build();
     }
 }
@@ -0,0 +1,45 @@
+package com.surest.member_service.entities;
+
+import com.surest.member_service.util.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@Entity
+@Table(name = "refresh_token")
+public class RefreshTokenEntity {
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    // SHA-256 of the raw token, hex encoded; the raw value is only ever sent to the client
+    @Column(name = "token_hash", nullable = false, length = 64, unique = true)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private UserEntity user;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Timestamp expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Timestamp createdAt;
+
+    // Set when the token is rotated or revoked; presenting it again afterwards counts as reuse
+    @Column(name = "revoked_at")
+    private Timestamp revokedAt;
+}
@@ -1,5 +1,6 @@
 package com.surest.member_service.entities;
 
+import com.surest.member_service.util.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,7 +16,7 @@ import java.util.UUID;
 @Table(name = "role")
 public class RoleEntity {
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, length = 50, unique = true)
@@ -1,5 +1,6 @@
 package com.surest.member_service.entities;
 
+import com.surest.member_service.util.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
@@ -20,7 +21,7 @@ import java.util.stream.Collectors;
 @Table(name = "users")
 public class UserEntity implements UserDetails{
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID userId;
 
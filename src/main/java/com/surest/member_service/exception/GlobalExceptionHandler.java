@@ -1,6 +1,7 @@
 package com.surest.member_service.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -70,6 +71,64 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRequestException(InvalidRequestException ex, WebRequest request) {
+        log.warn("InvalidRequestException: {}", ex.getMessage());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put(STATUS, HttpStatus.BAD_REQUEST.name());
+        body.put(ERROR, "Bad Request");
+        body.put(MESSAGE, ex.getMessage());
+        body.put(PATH, request.getDescription(false).replace("uri=", ""));
+        body.put(TIMESTAMP, LocalDateTime.now().format(formatter));
+
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, Object>> handlePreconditionFailedException(PreconditionFailedException ex, WebRequest request) {
+        log.warn("PreconditionFailedException: {}", ex.getMessage());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put(STATUS, HttpStatus.PRECONDITION_FAILED.name());
+        body.put(ERROR, "Precondition Failed");
+        body.put(MESSAGE, ex.getMessage());
+        body.put(PATH, request.getDescription(false).replace("uri=", ""));
+        body.put(TIMESTAMP, LocalDateTime.now().format(formatter));
+
+        return new ResponseEntity<>(body, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRefreshTokenException(InvalidRefreshTokenException ex, WebRequest request) {
+        log.warn("InvalidRefreshTokenException: {}", ex.getMessage());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put(STATUS, HttpStatus.UNAUTHORIZED.name());
+        body.put(ERROR, "Unauthorized");
+        body.put(MESSAGE, ex.getMessage());
+        body.put(PATH, request.getDescription(false).replace("uri=", ""));
+        body.put(TIMESTAMP, LocalDateTime.now().format(formatter));
+
+        return new ResponseEntity<>(body, HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(TooManyRequestsException ex, WebRequest request) {
+        log.warn("TooManyRequestsException: {}", ex.getMessage());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put(STATUS, HttpStatus.TOO_MANY_REQUESTS.name());
+        body.put(ERROR, "Too Many Requests");
+        body.put(MESSAGE, ex.getMessage());
+        body.put(PATH, request.getDescription(false).replace("uri=", ""));
+        body.put(TIMESTAMP, LocalDateTime.now().format(formatter));
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex, WebRequest request) {
         Map<String, String> errors = new HashMap<>();
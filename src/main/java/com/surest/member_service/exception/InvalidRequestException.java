@@ -0,0 +1,7 @@
+package com.surest.member_service.exception;
+
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
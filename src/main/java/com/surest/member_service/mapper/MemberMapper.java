@@ -19,6 +19,7 @@ public class MemberMapper {
                 .email(member.getEmail())
                 .createdAt(member.getCreatedAt())
                 .updatedAt(member.getUpdatedAt())
+                .version(member.getVersion())
                 .build();
     }
 
@@ -0,0 +1,11 @@
+package com.surest.member_service.repository;
+
+import java.util.UUID;
+
+public interface MemberNameView {
+    UUID getMemberId();
+
+    String getFirstName();
+
+    String getLastName();
+}
@@ -1,15 +1,49 @@
 package com.surest.member_service.repository;
 
 import com.surest.member_service.entities.MemberEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<MemberEntity, UUID>, JpaSpecificationExecutor<MemberEntity> {
+public interface MemberRepository extends JpaRepository<MemberEntity, UUID>, JpaSpecificationExecutor<MemberEntity>,
+        MemberRepositoryCustom {
 
     Optional<MemberEntity> findByEmail(String email);
+
+    // Single statement; the affected-row count tells the caller whether the member existed.
+    @Modifying
+    @Query("delete from MemberEntity m where m.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") UUID memberId);
+
+    @Modifying
+    @Query("delete from MemberEntity m where m.memberId = :memberId and m.version = :version")
+    int deleteByMemberIdAndVersion(@Param("memberId") UUID memberId, @Param("version") long version);
+
+    @Query("select m.email from MemberEntity m where m.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Must be consumed inside a transaction and closed by the caller.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.memberId as memberId, m.firstName as firstName, m.lastName as lastName from MemberEntity m")
+    Stream<MemberNameView> streamAllNames();
+
+    // Forward-only cursor for exports; read-only skips dirty-checking snapshots. Same contract as streamAllNames.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select m from MemberEntity m order by m.lastName, m.memberId")
+    Stream<MemberEntity> streamAllForExport();
 }
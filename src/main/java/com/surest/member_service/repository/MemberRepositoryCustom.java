@@ -0,0 +1,26 @@
+package com.surest.member_service.repository;
+
+import com.surest.member_service.entities.MemberEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MemberRepositoryCustom {
+
+    /**
+     * Reads one window of members matching {@code spec} without issuing a count query.
+     * Ask for one row more than the page size to find out whether another page follows.
+     */
+    List<MemberEntity> findWindow(Specification<MemberEntity> spec, Sort sort, long offset, int limit);
+
+    /**
+     * Overwrites the editable columns of one member without loading it first, bumps its version and
+     * returns the row as stored. Empty when no member has that id or, if {@code expectedVersion} is
+     * given, when the stored version differs. Bypasses the persistence context, so call it from a
+     * transaction that has not already loaded this member.
+     */
+    Optional<MemberEntity> updateInPlace(UUID memberId, MemberEntity values, Long expectedVersion);
+}
@@ -0,0 +1,66 @@
+package com.surest.member_service.repository;
+
+import com.surest.member_service.entities.MemberEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    private static final String UPDATE_BULK = """
+            update MemberEntity m
+               set m.firstName = :firstName, m.lastName = :lastName, m.dateOfBirth = :dateOfBirth,
+                   m.email = :email, m.updatedAt = :updatedAt, m.version = m.version + 1
+             where m.memberId = :memberId""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MemberEntity> findWindow(Specification<MemberEntity> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MemberEntity> query = cb.createQuery(MemberEntity.class);
+        Root<MemberEntity> root = query.from(MemberEntity.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<MemberEntity> updateInPlace(UUID memberId, MemberEntity values, Long expectedVersion) {
+        String jpql = UPDATE_BULK + (expectedVersion == null ? "" : " and m.version = :expectedVersion");
+        if (bind(entityManager.createQuery(jpql), memberId, values, expectedVersion).executeUpdate() == 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityManager.find(MemberEntity.class, memberId));
+    }
+
+    private static Query bind(Query query, UUID memberId, MemberEntity values, Long expectedVersion) {
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        return query.setParameter("memberId", memberId)
+                .setParameter("firstName", values.getFirstName())
+                .setParameter("lastName", values.getLastName())
+                .setParameter("dateOfBirth", values.getDateOfBirth())
+                .setParameter("email", values.getEmail())
+                .setParameter("updatedAt", values.getUpdatedAt());
+    }
+}
@@ -0,0 +1,34 @@
+package com.surest.member_service.repository;
+
+import com.surest.member_service.entities.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, UUID> {
+
+    // Token and owner (with roles) in one query; refresh needs nothing else.
+    @Query("select t from RefreshTokenEntity t join fetch t.user where t.tokenHash = :tokenHash")
+    Optional<RefreshTokenEntity> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // Compare-and-set on revoked_at: of two concurrent refreshes with the same token only one sees 1.
+    @Modifying
+    @Query("update RefreshTokenEntity t set t.revokedAt = :now where t.id = :id and t.revokedAt is null")
+    int markRevoked(@Param("id") UUID id, @Param("now") Timestamp now);
+
+    @Modifying
+    @Query("update RefreshTokenEntity t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Timestamp now);
+
+    // Rows that can no longer be rotated, plus revoked rows old enough that reuse detection no longer needs them.
+    @Modifying
+    @Query("delete from RefreshTokenEntity t where t.expiresAt < :now or t.revokedAt < :revokedBefore")
+    int deleteStale(@Param("now") Timestamp now, @Param("revokedBefore") Timestamp revokedBefore);
+}
@@ -3,8 +3,24 @@ package com.surest.member_service.service;
 import com.surest.member_service.dto.AuthRequest;
 import com.surest.member_service.dto.AuthResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 
 public interface AuthService {
 
     AuthResponse generateToken(AuthRequest authRequest);
+
+    /**
+     * Runs {@link #generateToken} on the bounded authentication executor so password hashing never
+     * occupies a request thread. Throws TooManyRequestsException when the executor is saturated.
+     */
+    CompletableFuture<AuthResponse> generateTokenAsync(AuthRequest authRequest);
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh token, without any
+     * password hashing.
+     */
+    AuthResponse refreshToken(String refreshToken);
+
+    void revokeRefreshToken(String refreshToken);
 }
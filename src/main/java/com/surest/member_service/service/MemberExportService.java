@@ -0,0 +1,15 @@
+package com.surest.member_service.service;
+
+import com.surest.member_service.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface MemberExportService {
+
+    /**
+     * Writes every member to {@code out}, reading them through a forward-only cursor so memory use
+     * does not grow with the size of the table. Returns the number of rows written.
+     */
+    long exportMembers(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.surest.member_service.service;
+
+import com.surest.member_service.dto.MemberImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface MemberImportService {
+
+    /**
+     * Imports members from a JSON array or newline-delimited JSON stream without buffering the body.
+     */
+    MemberImportResponse importMembers(InputStream body) throws IOException;
+}
@@ -1,22 +1,40 @@
 package com.surest.member_service.service;
 
+import com.surest.member_service.dto.CountMode;
+import com.surest.member_service.dto.MemberBatchResponse;
 import com.surest.member_service.dto.MemberRequest;
 import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.dto.MemberSliceResponse;
+import com.surest.member_service.dto.MemberSuggestion;
+import com.surest.member_service.dto.NameMatch;
 import com.surest.member_service.exception.MemberNotFoundException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface MemberService {
 
-    Page<MemberResponse> getMembers(String firstName, String lastName, Pageable pageable);
+    Slice<MemberResponse> getMembers(String firstName, String lastName, NameMatch match, CountMode countMode, Pageable pageable);
+
+    MemberSliceResponse scrollMembers(String firstName, String lastName, NameMatch match, String cursor, int size);
+
+    List<MemberSuggestion> suggestMembers(String prefix, int limit);
 
     MemberResponse getMemberById(UUID memberId);
 
+    MemberBatchResponse getMembersByIds(List<UUID> memberIds);
+
     MemberResponse createMember(MemberRequest memberRequest);
 
-    MemberResponse updateMember(UUID memberId, MemberRequest memberRequest);
+    /**
+     * @param expectedVersion version the caller last saw (from If-Match), or {@code null} to overwrite unconditionally
+     */
+    MemberResponse updateMember(UUID memberId, MemberRequest memberRequest, Long expectedVersion);
 
-    void deleteMember(UUID memberId);
+    /**
+     * @param expectedVersion version the caller last saw (from If-Match), or {@code null} to delete unconditionally
+     */
+    void deleteMember(UUID memberId, Long expectedVersion);
 }
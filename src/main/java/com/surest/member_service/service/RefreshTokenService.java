@@ -0,0 +1,38 @@
+package com.surest.member_service.service;
+
+import com.surest.member_service.entities.UserEntity;
+
+import java.util.UUID;
+
+public interface RefreshTokenService {
+
+    /**
+     * Starts a new token family for a fresh login and returns the raw token to hand to the client.
+     */
+    String issue(UUID userId);
+
+    /**
+     * Consumes a refresh token and returns its owner together with the successor token. Presenting a
+     * token that was already rotated revokes its whole family.
+     *
+     * @throws com.surest.member_service.exception.InvalidRefreshTokenException if the token is unknown,
+     *                                                                          expired, revoked or reused
+     */
+    Rotation rotate(String rawToken);
+
+    /**
+     * Revokes the family the token belongs to (logout). Unknown tokens are ignored.
+     */
+    void revoke(String rawToken);
+
+    /**
+     * Deletes expired tokens and tokens revoked longer ago than the reuse-detection grace period.
+     * A purged revoked token presented again is rejected as unknown instead of revoking its family.
+     *
+     * @return the number of rows deleted
+     */
+    int purgeStale();
+
+    record Rotation(UserEntity user, String refreshToken) {
+    }
+}
@@ -1,15 +1,25 @@
 package com.surest.member_service.service.impl;
 
+import com.surest.member_service.config.AuthExecutorProperties;
 import com.surest.member_service.dto.AuthRequest;
 import com.surest.member_service.dto.AuthResponse;
+import com.surest.member_service.entities.UserEntity;
+import com.surest.member_service.exception.TooManyRequestsException;
 import com.surest.member_service.service.AuthService;
+import com.surest.member_service.service.RefreshTokenService;
 import com.surest.member_service.util.JWTUtil;
+import com.surest.member_service.util.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -17,21 +27,53 @@ public class AuthServiceImpl implements AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenVersionRegistry tokenVersions;
+    private final ExecutorService authenticationExecutor;
+    private final AuthExecutorProperties authExecutorProperties;
 
     @Override
     public AuthResponse generateToken(AuthRequest authRequest) {
-        log.info("Authenticating user: {}", authRequest.getUsername());
-        authenticationManager.authenticate(
+        log.debug("Authenticating user: {}", authRequest.getUsername());
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         authRequest.getUsername(),
                         authRequest.getPassword()
                 )
         );
-        log.info("Authentication successful for user: {}", authRequest.getUsername());
+        log.debug("Authentication successful for user: {}", authRequest.getUsername());
+
+        UserEntity user = (UserEntity) authentication.getPrincipal();
+        String token = jwtUtil.generateToken(user, tokenVersions.currentVersion(user.getUsername()));
+        String refreshToken = refreshTokenService.issue(user.getUserId());
+        log.debug("Generated JWT token for user: {}", authRequest.getUsername());
+
+        return AuthResponse.builder().token(token).refreshToken(refreshToken).build();
+    }
+
+    @Override
+    public AuthResponse refreshToken(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        UserEntity user = rotation.user();
+        log.debug("Refreshed JWT token for user: {}", user.getUsername());
+        return AuthResponse.builder()
+                .token(jwtUtil.generateToken(user, tokenVersions.currentVersion(user.getUsername())))
+                .refreshToken(rotation.refreshToken())
+                .build();
+    }
 
-        String token = jwtUtil.generateToken(authRequest.getUsername());
-        log.info("Generated JWT token for user: {}", authRequest.getUsername());
+    @Override
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
 
-        return AuthResponse.builder().token(token).build();
+    @Override
+    public CompletableFuture<AuthResponse> generateTokenAsync(AuthRequest authRequest) {
+        try {
+            return CompletableFuture.supplyAsync(() -> generateToken(authRequest), authenticationExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Rejecting login for user {}: authentication executor saturated", authRequest.getUsername());
+            throw new TooManyRequestsException("Too many concurrent logins, retry shortly", authExecutorProperties.getRetryAfter());
+        }
     }
 }
@@ -1,7 +1,13 @@
 package com.surest.member_service.service.impl;
 
+import com.surest.member_service.config.CacheConfig;
 import com.surest.member_service.repository.UserRepository;
+import com.surest.member_service.util.TokenVersionRegistry;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,11 +18,28 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersions;
 
+    // Login checks the password against this, so it always reads the current row.
     @Override
+    @Timed(value = "auth.user.lookup", description = "User lookups by username")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUserName(username).orElseThrow(() ->
                 new UsernameNotFoundException("Username not found"));
     }
+
+    // JwtAuthFilter for legacy tokens without a roles claim. Caches username, roles and account flags
+    // but never the password hash; unknown usernames are not cached.
+    @Timed(value = "auth.user.lookup", description = "User lookups by username")
+    @Cacheable(value = CacheConfig.USERS, key = "#username", sync = true)
+    public UserDetails loadUserWithoutPassword(String username) throws UsernameNotFoundException {
+        return User.withUserDetails(loadUserByUsername(username)).password("").build();
+    }
+
+    // Must be called whenever a user's password or roles change; also invalidates access tokens carrying the old roles.
+    @CacheEvict(value = CacheConfig.USERS, key = "#username")
+    public void evictUser(String username) {
+        tokenVersions.revokeAccessTokens(username);
+    }
 }
 
@@ -0,0 +1,29 @@
+package com.surest.member_service.service.impl;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.surest.member_service.mapper.MemberMapper;
+import com.surest.member_service.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Reloads entries of the {@code members} cache in the background once they pass
+ * {@code refresh-after-write}. Returning {@code null} drops the entry, so members
+ * deleted behind the cache's back disappear on the next refresh.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberCacheLoader implements CacheLoader<Object, Object> {
+
+    private final MemberRepository memberRepository;
+    private final MemberMapper memberMapper;
+
+    @Override
+    public Object load(Object key) {
+        return memberRepository.findById((UUID) key)
+                .map(memberMapper::toResponse)
+                .orElse(null);
+    }
+}
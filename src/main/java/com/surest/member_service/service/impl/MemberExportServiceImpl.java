@@ -0,0 +1,103 @@
+package com.surest.member_service.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.surest.member_service.dto.ExportFormat;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.mapper.MemberMapper;
+import com.surest.member_service.repository.MemberRepository;
+import com.surest.member_service.service.MemberExportService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberExportServiceImpl implements MemberExportService {
+
+    static final String CSV_HEADER = "memberId,firstName,lastName,dateOfBirth,email,createdAt,updatedAt,version";
+
+    // Push bytes to the client regularly so proxies see progress on long exports
+    private static final int FLUSH_EVERY = 1000;
+
+    private final MemberRepository memberRepository;
+    private final MemberMapper memberMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportMembers(ExportFormat format, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long rows = 0;
+        // Not closed here: the servlet container owns the response stream.
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        ObjectWriter jsonWriter = objectMapper.writer();
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<MemberEntity> members = memberRepository.streamAllForExport()) {
+            Iterator<MemberEntity> iterator = members.iterator();
+            while (iterator.hasNext()) {
+                MemberEntity member = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, member);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(memberMapper.toResponse(member)));
+                    writer.write('\n');
+                }
+                // Drop the row from the persistence context so it can be collected
+                entityManager.detach(member);
+                if (++rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        log.info("Exported {} members as {} in {} ms", rows, format, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+
+    private static void writeCsvRow(Writer writer, MemberEntity member) throws IOException {
+        writer.write(csv(member.getMemberId()));
+        writer.write(',');
+        writer.write(csv(member.getFirstName()));
+        writer.write(',');
+        writer.write(csv(member.getLastName()));
+        writer.write(',');
+        writer.write(csv(member.getDateOfBirth()));
+        writer.write(',');
+        writer.write(csv(member.getEmail()));
+        writer.write(',');
+        writer.write(csv(member.getCreatedAt() == null ? null : member.getCreatedAt().toInstant()));
+        writer.write(',');
+        writer.write(csv(member.getUpdatedAt() == null ? null : member.getUpdatedAt().toInstant()));
+        writer.write(',');
+        writer.write(csv(member.getVersion()));
+        writer.write('\n');
+    }
+
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
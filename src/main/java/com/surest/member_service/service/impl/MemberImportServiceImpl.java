@@ -0,0 +1,192 @@
+package com.surest.member_service.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest.member_service.dto.MemberImportResponse;
+import com.surest.member_service.dto.MemberImportRowResult;
+import com.surest.member_service.dto.MemberRequest;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.mapper.MemberMapper;
+import com.surest.member_service.repository.MemberRepository;
+import com.surest.member_service.service.MemberImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberImportServiceImpl implements MemberImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MemberRepository memberRepository;
+    private final MemberMapper memberMapper;
+    private final MemberNameIndex memberNameIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    // Keep in step with spring.jpa.properties.hibernate.jdbc.batch_size
+    @Value("${member.import.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${member.import.max-reported-rows:1000}")
+    private int maxReportedRows = 1000;
+
+    @Override
+    public MemberImportResponse importMembers(InputStream body) throws IOException {
+        long started = System.nanoTime();
+        ImportRun run = new ImportRun();
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            // A top-level array is read element by element; otherwise the body is a stream of objects (NDJSON).
+            JsonToken first = parser.nextToken();
+            boolean array = first == JsonToken.START_ARRAY;
+            JsonToken token = array ? parser.nextToken() : first;
+            while (token != null && token != JsonToken.END_ARRAY) {
+                long row = ++run.received;
+                JsonNode node = objectMapper.readTree(parser);
+                PendingRow pending = toPendingRow(row, node, run);
+                if (pending != null) {
+                    batch.add(pending);
+                    if (batch.size() >= batchSize) {
+                        insertBatch(batch, run);
+                        batch.clear();
+                    }
+                }
+                token = parser.nextToken();
+            }
+            run.completed = true;
+        } catch (JsonProcessingException e) {
+            log.warn("Member import stopped at row {}: {}", run.received, e.getOriginalMessage());
+            run.reject(run.received, null, MemberImportRowResult.Status.MALFORMED, "Malformed JSON, import stopped");
+        }
+        insertBatch(batch, run);
+
+        long durationMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        double rowsPerSecond = run.created * 1000.0 / durationMs;
+        log.info("Member import finished: {} received, {} created, {} duplicates, {} invalid in {} ms ({} rows/s)",
+                run.received, run.created, run.duplicates, run.invalid, durationMs, Math.round(rowsPerSecond));
+        return MemberImportResponse.builder()
+                .received(run.received)
+                .created(run.created)
+                .duplicates(run.duplicates)
+                .invalid(run.invalid)
+                .completed(run.completed)
+                .durationMs(durationMs)
+                .rowsPerSecond(rowsPerSecond)
+                .rejectedRows(run.rejectedRows)
+                .build();
+    }
+
+    private PendingRow toPendingRow(long row, JsonNode node, ImportRun run) {
+        MemberRequest request;
+        try {
+            request = objectMapper.treeToValue(node, MemberRequest.class);
+        } catch (JsonProcessingException e) {
+            run.reject(row, null, MemberImportRowResult.Status.INVALID, e.getOriginalMessage());
+            return null;
+        }
+        Set<ConstraintViolation<MemberRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+            run.reject(row, request.getEmail(), MemberImportRowResult.Status.INVALID, message);
+            return null;
+        }
+        if (!run.seenEmails.add(request.getEmail())) {
+            run.reject(row, request.getEmail(), MemberImportRowResult.Status.DUPLICATE, "Duplicate email in import");
+            return null;
+        }
+        return new PendingRow(row, request);
+    }
+
+    private void insertBatch(List<PendingRow> batch, ImportRun run) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PendingRow> alreadyStored = new ArrayList<>();
+        try {
+            run.created += transactionTemplate.execute(status -> {
+                alreadyStored.clear();
+                Set<String> existing = memberRepository.findExistingEmails(
+                        batch.stream().map(pending -> pending.request().getEmail()).toList());
+                List<MemberEntity> entities = new ArrayList<>(batch.size());
+                for (PendingRow pending : batch) {
+                    if (existing.contains(pending.request().getEmail())) {
+                        alreadyStored.add(pending);
+                    } else {
+                        entities.add(memberMapper.toEntity(pending.request()));
+                    }
+                }
+                persist(entities);
+                return entities.size();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another writer took one of the emails after our check; redo this batch one row at a time.
+            log.warn("Batch insert hit a constraint violation, retrying {} rows individually", batch.size());
+            batch.forEach(pending -> insertSingle(pending, run));
+            return;
+        }
+        alreadyStored.forEach(pending -> run.reject(pending.row(), pending.request().getEmail(),
+                MemberImportRowResult.Status.DUPLICATE, "Email already exists"));
+    }
+
+    private void insertSingle(PendingRow pending, ImportRun run) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(List.of(memberMapper.toEntity(pending.request()))));
+            run.created++;
+        } catch (DataIntegrityViolationException e) {
+            run.reject(pending.row(), pending.request().getEmail(), MemberImportRowResult.Status.DUPLICATE, "Email already exists");
+        }
+    }
+
+    // Flushes as one JDBC batch and clears the persistence context so memory stays flat across batches.
+    // The flush goes through the repository so a unique-email violation surfaces as DataIntegrityViolationException.
+    private void persist(List<MemberEntity> entities) {
+        memberRepository.saveAllAndFlush(entities);
+        entities.forEach(memberNameIndex::indexAfterCommit);
+        entityManager.clear();
+    }
+
+    private record PendingRow(long row, MemberRequest request) {
+    }
+
+    private final class ImportRun {
+        private long received;
+        private long created;
+        private long duplicates;
+        private long invalid;
+        private boolean completed;
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<MemberImportRowResult> rejectedRows = new ArrayList<>();
+
+        private void reject(long row, String email, MemberImportRowResult.Status status, String message) {
+            if (status == MemberImportRowResult.Status.DUPLICATE) {
+                duplicates++;
+            } else {
+                invalid++;
+            }
+            if (rejectedRows.size() < maxReportedRows) {
+                rejectedRows.add(new MemberImportRowResult(row, email, status, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.surest.member_service.service.impl;
+
+import com.surest.member_service.dto.MemberSuggestion;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.repository.MemberNameView;
+import com.surest.member_service.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-process prefix index over normalised first and last names for typeahead lookups.
+ * Names are kept in sorted maps keyed by {@code name + '\0' + id}, so every member whose name
+ * starts with a prefix sits in one contiguous key range. Built at startup, kept current after
+ * each committed create, update and delete on this instance, and rebuilt every
+ * {@code member.name-index.refresh-interval} so writes made through other instances show up.
+ */
+@Slf4j
+@Component
+public class MemberNameIndex {
+
+    private static final char KEY_SEPARATOR = '\0';
+    private static final char RANGE_END = '\uffff';
+
+    private final MemberRepository memberRepository;
+
+    // Streaming the names needs an open transaction; read-only, so Hibernate skips dirty checking
+    private final TransactionTemplate readOnlyTransaction;
+
+    // One rebuild at a time, taken before the transaction so a waiting rebuild holds no connection
+    private final Object rebuildLock = new Object();
+
+    // Replaced as a whole by rebuild(), so readers never see a half-built index.
+    private volatile Names names = new Names();
+
+    // Writes applied while a rebuild streams rows, replayed onto the new maps before they go live.
+    private List<Consumer<Names>> pendingWrites;
+
+    private final Object writeLock = new Object();
+
+    @Value("${member.name-index.enabled:false}")
+    private boolean enabled;
+
+    private volatile boolean ready;
+
+    public MemberNameIndex(MemberRepository memberRepository, PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${member.name-index.refresh-interval:PT5M}",
+            fixedDelayString = "${member.name-index.refresh-interval:PT5M}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * Reads every member name into fresh maps and swaps them in. Writes committed while the rows
+     * stream are replayed onto the new maps first, so none of them is lost by the swap.
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            long started = System.nanoTime();
+            Names fresh = new Names();
+            // Opened before the query, so any write the stream might miss is recorded and replayed
+            synchronized (writeLock) {
+                pendingWrites = new ArrayList<>();
+            }
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<MemberNameView> rows = memberRepository.streamAllNames()) {
+                        rows.forEach(view -> fresh.put(view.getMemberId(), view.getFirstName(), view.getLastName()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                synchronized (writeLock) {
+                    pendingWrites = null;
+                }
+                throw e;
+            }
+            synchronized (writeLock) {
+                pendingWrites.forEach(write -> write.accept(fresh));
+                pendingWrites = null;
+                names = fresh;
+            }
+            ready = true;
+            log.info("Member name index built with {} members in {} ms", fresh.byId.size(), (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    /**
+     * Members whose last or first name starts with {@code prefix}, last-name matches first.
+     */
+    public List<MemberSuggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        Names current = names;
+        Map<UUID, MemberSuggestion> matches = new LinkedHashMap<>();
+        collect(current.byLastName, normalized, limit, matches);
+        collect(current.byFirstName, normalized, limit, matches);
+        return new ArrayList<>(matches.values());
+    }
+
+    public void indexAfterCommit(MemberEntity member) {
+        if (enabled) {
+            UUID memberId = member.getMemberId();
+            String firstName = member.getFirstName();
+            String lastName = member.getLastName();
+            afterCommit(() -> put(memberId, firstName, lastName));
+        }
+    }
+
+    public void removeAfterCommit(UUID memberId) {
+        if (enabled) {
+            afterCommit(() -> remove(memberId));
+        }
+    }
+
+    void put(UUID memberId, String firstName, String lastName) {
+        apply(target -> target.put(memberId, firstName, lastName));
+    }
+
+    void remove(UUID memberId) {
+        apply(target -> target.remove(memberId));
+    }
+
+    private void apply(Consumer<Names> write) {
+        synchronized (writeLock) {
+            write.accept(names);
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+        }
+    }
+
+    private static void collect(NavigableMap<String, MemberSuggestion> names, String prefix, int limit,
+                                Map<UUID, MemberSuggestion> matches) {
+        for (MemberSuggestion suggestion : names.subMap(prefix, true, prefix + RANGE_END, false).values()) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.putIfAbsent(suggestion.getMemberId(), suggestion);
+        }
+    }
+
+    private static String key(String name, UUID memberId) {
+        return normalize(name) + KEY_SEPARATOR + memberId;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Names {
+        private final Map<UUID, MemberSuggestion> byId = new ConcurrentHashMap<>();
+        private final NavigableMap<String, MemberSuggestion> byFirstName = new ConcurrentSkipListMap<>();
+        private final NavigableMap<String, MemberSuggestion> byLastName = new ConcurrentSkipListMap<>();
+
+        void put(UUID memberId, String firstName, String lastName) {
+            MemberSuggestion suggestion = new MemberSuggestion(memberId, firstName, lastName);
+            byId.compute(memberId, (id, previous) -> {
+                if (previous != null) {
+                    byFirstName.remove(key(previous.getFirstName(), id));
+                    byLastName.remove(key(previous.getLastName(), id));
+                }
+                byFirstName.put(key(firstName, id), suggestion);
+                byLastName.put(key(lastName, id), suggestion);
+                return suggestion;
+            });
+        }
+
+        void remove(UUID memberId) {
+            byId.computeIfPresent(memberId, (id, previous) -> {
+                byFirstName.remove(key(previous.getFirstName(), id));
+                byLastName.remove(key(previous.getLastName(), id));
+                return null;
+            });
+        }
+    }
+
+    // Only committed changes reach the index; a rolled-back write leaves it untouched.
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,103 +1,327 @@
 package com.surest.member_service.service.impl;
 
+import com.surest.member_service.config.CacheConfig;
+import com.surest.member_service.dto.CountMode;
+import com.surest.member_service.dto.MemberBatchResponse;
 import com.surest.member_service.dto.MemberRequest;
 import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.dto.MemberSliceResponse;
+import com.surest.member_service.dto.MemberSuggestion;
+import com.surest.member_service.dto.NameMatch;
 import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.exception.InvalidRequestException;
 import com.surest.member_service.exception.MemberNotFoundException;
+import com.surest.member_service.exception.PreconditionFailedException;
 import com.surest.member_service.exception.ResourceAlreadyExistsException;
 import com.surest.member_service.mapper.MemberMapper;
 import com.surest.member_service.repository.MemberRepository;
 import com.surest.member_service.service.MemberService;
 import com.surest.member_service.specification.MemberSpecification;
+import com.surest.member_service.util.MemberCursor;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "member.service", description = "MemberService calls, tagged by method and exception")
 public class MemberServiceImpl implements MemberService {
 
+    // Keyset order; memberId breaks ties between equal last names so the cursor position is unique.
+    private static final Sort KEYSET_SORT = Sort.by("lastName", "memberId");
+
+    private static final Sort FIRST_NAME_SORT = Sort.by("firstName", "memberId");
+
+    private static final int MAX_SLICE_SIZE = 1000;
+
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private static final int MAX_BATCH_IDS = 500;
+
     private final MemberRepository memberRepository;
 
     private final MemberMapper memberMapper;
 
+    private final CacheManager cacheManager;
+
+    private final MemberNameIndex memberNameIndex;
+
     @Override
     @Transactional(readOnly = true)
-    public Page<MemberResponse> getMembers(String firstName, String lastName, Pageable pageable) {
-        log.info("Fetching members with firstName: '{}' and lastName: '{}'", firstName, lastName);
-        Page<MemberResponse> response = memberRepository.findAll(
-                MemberSpecification.filterBy(firstName, lastName),
-                pageable
-        ).map(MemberEntity::toResponse);
-        log.info("Fetched {} members", response.getNumberOfElements());
-        return response;
+    public Slice<MemberResponse> getMembers(String firstName, String lastName, NameMatch match, CountMode countMode, Pageable pageable) {
+        log.debug("Fetching members with firstName: '{}' and lastName: '{}', match: {}, count: {}", firstName, lastName, match, countMode);
+        Specification<MemberEntity> spec = MemberSpecification.filterBy(firstName, lastName, match);
+        if (countMode == CountMode.EXACT || pageable.isUnpaged()) {
+            Page<MemberResponse> response = memberRepository.findAll(spec, pageable).map(MemberEntity::toResponse);
+            log.debug("Fetched {} members", response.getNumberOfElements());
+            return response;
+        }
+        int pageSize = pageable.getPageSize();
+        List<MemberEntity> rows = memberRepository.findWindow(spec, pageable.getSort(), pageable.getOffset(), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<MemberResponse> content = (hasNext ? rows.subList(0, pageSize) : rows).stream()
+                .map(MemberEntity::toResponse)
+                .toList();
+        log.debug("Fetched {} members", content.size());
+        if (countMode == CountMode.NONE) {
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+        Long cachedTotal = cacheManager.getCache(CacheConfig.MEMBER_COUNTS)
+                .get(countKey(firstName, lastName, match), () -> memberRepository.count(spec));
+        // Never report fewer rows than this page has already proven to exist.
+        long total = Math.max(cachedTotal, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // Keyed by the normalised names the specification matches on, so one key is one LIKE pattern.
+    private static List<String> countKey(String firstName, String lastName, NameMatch match) {
+        return List.of(
+                match.name(),
+                MemberSpecification.normalizeName(firstName),
+                MemberSpecification.normalizeName(lastName));
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "members", key = "#memberId")
+    public MemberSliceResponse scrollMembers(String firstName, String lastName, NameMatch match, String cursor, int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_SLICE_SIZE);
+        }
+        log.debug("Scrolling members with firstName: '{}' and lastName: '{}', match: {}", firstName, lastName, match);
+        Specification<MemberEntity> spec = MemberSpecification.filterBy(firstName, lastName, match);
+        if (cursor != null && !cursor.isBlank()) {
+            MemberCursor position = MemberCursor.decode(cursor);
+            spec = spec.and(MemberSpecification.after(position.lastName(), position.memberId()));
+        }
+        // One extra row tells us whether another slice follows, so no count query is needed.
+        List<MemberEntity> rows = memberRepository.findWindow(spec, KEYSET_SORT, 0, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<MemberEntity> slice = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            MemberEntity last = slice.get(slice.size() - 1);
+            nextCursor = new MemberCursor(last.getLastName(), last.getMemberId()).encode();
+        }
+        log.debug("Fetched {} members, hasNext: {}", slice.size(), hasNext);
+        return MemberSliceResponse.builder()
+                .content(slice.stream().map(MemberEntity::toResponse).toList())
+                .size(slice.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberSuggestion> suggestMembers(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("q is required");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        if (memberNameIndex.isReady()) {
+            return memberNameIndex.suggest(prefix, limit);
+        }
+        log.debug("Member name index not ready, serving typeahead for '{}' from the database", prefix);
+        // Same order as MemberNameIndex#suggest: last-name matches, then first-name matches, no duplicates
+        Map<UUID, MemberSuggestion> matches = new LinkedHashMap<>();
+        collectSuggestions(MemberSpecification.filterBy(null, prefix, NameMatch.PREFIX), KEYSET_SORT, limit, matches);
+        if (matches.size() < limit) {
+            collectSuggestions(MemberSpecification.filterBy(prefix, null, NameMatch.PREFIX), FIRST_NAME_SORT, limit, matches);
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    private void collectSuggestions(Specification<MemberEntity> spec, Sort sort, int limit, Map<UUID, MemberSuggestion> matches) {
+        for (MemberEntity member : memberRepository.findWindow(spec, sort, 0, limit)) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.putIfAbsent(member.getMemberId(), new MemberSuggestion(member.getMemberId(), member.getFirstName(), member.getLastName()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.MEMBERS, key = "#memberId", sync = true)
     public MemberResponse getMemberById(UUID memberId) throws MemberNotFoundException {
-        log.info("Fetching member by ID: {}", memberId);
+        log.debug("Fetching member by ID: {}", memberId);
+        Cache missingMembers = cacheManager.getCache(CacheConfig.MISSING_MEMBERS);
+        if (missingMembers.get(memberId) != null) {
+            log.debug("Member ID {} is cached as missing", memberId);
+            throw new MemberNotFoundException();
+        }
         MemberEntity memberEntity = memberRepository.findById(memberId)
                 .orElseThrow(() -> {
                     log.warn("Member not found with ID: {}", memberId);
+                    missingMembers.put(memberId, Boolean.TRUE);
                     return new MemberNotFoundException();
                 });
-        log.info("Member found with ID: {}", memberId);
+        log.debug("Member found with ID: {}", memberId);
         return memberMapper.toResponse(memberEntity);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MemberBatchResponse getMembersByIds(List<UUID> memberIds) {
+        Set<UUID> requested = new LinkedHashSet<>(memberIds);
+        if (requested.size() > MAX_BATCH_IDS) {
+            throw new InvalidRequestException("At most " + MAX_BATCH_IDS + " member IDs per request");
+        }
+        log.debug("Fetching {} members by ID", requested.size());
+        Cache members = cacheManager.getCache(CacheConfig.MEMBERS);
+        Cache missingMembers = cacheManager.getCache(CacheConfig.MISSING_MEMBERS);
+
+        Map<UUID, MemberResponse> found = new HashMap<>();
+        List<UUID> toLoad = new ArrayList<>();
+        int loaded = 0;
+        for (UUID memberId : requested) {
+            MemberResponse cached = (MemberResponse) peek(members, memberId);
+            if (cached != null) {
+                found.put(memberId, cached);
+            } else if (peek(missingMembers, memberId) == null) {
+                toLoad.add(memberId);
+            }
+        }
+        if (!toLoad.isEmpty()) {
+            // One IN query for every miss instead of a findById each
+            for (MemberEntity memberEntity : memberRepository.findAllById(toLoad)) {
+                MemberResponse response = memberMapper.toResponse(memberEntity);
+                members.put(memberEntity.getMemberId(), response);
+                found.put(memberEntity.getMemberId(), response);
+                loaded++;
+            }
+        }
+
+        List<MemberResponse> ordered = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID memberId : requested) {
+            MemberResponse response = found.get(memberId);
+            if (response != null) {
+                ordered.add(response);
+            } else {
+                missing.add(memberId);
+                missingMembers.put(memberId, Boolean.TRUE);
+            }
+        }
+        log.debug("Resolved {} members, {} from the database, {} missing", ordered.size(), loaded, missing.size());
+        return MemberBatchResponse.builder().members(ordered).missing(missing).build();
+    }
+
+    // Cache.get on the loading members cache would load each miss on its own; read the native cache instead.
+    @SuppressWarnings("unchecked")
+    private static Object peek(Cache cache, Object key) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine).getIfPresent(key);
+        }
+        Cache.ValueWrapper wrapper = cache.get(key);
+        return wrapper == null ? null : wrapper.get();
+    }
+
     @Override
     @Transactional
     public MemberResponse createMember(MemberRequest memberRequest) throws MemberNotFoundException {
-        log.info("Creating new member with email: {}", memberRequest.getEmail());
-        memberRepository.findByEmail(memberRequest.getEmail())
-                .ifPresent(existingMember -> {
-                    log.warn("Member already exists with email: {}", memberRequest.getEmail());
-                    throw new ResourceAlreadyExistsException();
-                });
+        log.debug("Creating new member with email: {}", memberRequest.getEmail());
         MemberEntity memberEntity = memberMapper.toEntity(memberRequest);
-        MemberEntity savedEntity = memberRepository.save(memberEntity);
+        MemberEntity savedEntity;
+        try {
+            // One INSERT; the unique constraint on member.email decides duplicates, so concurrent creates can't both win.
+            savedEntity = memberRepository.saveAndFlush(memberEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (!isEmailConflict(e)) {
+                throw e;
+            }
+            log.warn("Member already exists with email: {}", memberRequest.getEmail());
+            throw new ResourceAlreadyExistsException();
+        }
+        memberNameIndex.indexAfterCommit(savedEntity);
         log.info("Member created successfully with ID: {}", savedEntity.getMemberId());
         return memberMapper.toResponse(savedEntity);
     }
 
     @Override
     @Transactional
-    @CachePut(value = "members", key = "#memberId")
-    public MemberResponse updateMember(UUID memberId, MemberRequest memberRequest) {
-        log.info("Updating member with ID: {}", memberId);
-        MemberEntity existingMember = memberRepository.findById(memberId)
-                .orElseThrow(() -> {
-                    log.warn("Member not found with ID: {}", memberId);
-                    return new MemberNotFoundException();
-                });
-        memberMapper.updateEntity(existingMember, memberRequest);
-        MemberEntity savedEntity = memberRepository.save(existingMember);
+    @CachePut(value = CacheConfig.MEMBERS, key = "#memberId")
+    public MemberResponse updateMember(UUID memberId, MemberRequest memberRequest, Long expectedVersion) {
+        log.debug("Updating member with ID: {}", memberId);
+        MemberEntity updatedEntity;
+        try {
+            // Direct UPDATE instead of findById + merge; an unknown id or stale version simply matches no row.
+            updatedEntity = memberRepository.updateInPlace(memberId, memberMapper.toEntity(memberRequest), expectedVersion)
+                    .orElseThrow(() -> noRowMatched(memberId, expectedVersion));
+        } catch (DataIntegrityViolationException e) {
+            if (!isEmailConflict(e)) {
+                throw e;
+            }
+            log.warn("Member already exists with email: {}", memberRequest.getEmail());
+            throw new ResourceAlreadyExistsException();
+        }
+        memberNameIndex.indexAfterCommit(updatedEntity);
         log.info("Member updated successfully with ID: {}", memberId);
-        return memberMapper.toResponse(savedEntity);
+        return memberMapper.toResponse(updatedEntity);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = "members", key = "#memberId")
-    public void deleteMember(UUID memberId) {
-        log.info("Deleting member with ID: {}", memberId);
-        MemberEntity memberEntity = memberRepository.findById(memberId)
-                .orElseThrow(() -> {
-                    log.warn("Member not found with ID: {}", memberId);
-                    return new MemberNotFoundException();
-                });
+    @CacheEvict(value = CacheConfig.MEMBERS, key = "#memberId")
+    public void deleteMember(UUID memberId, Long expectedVersion) {
+        log.debug("Deleting member with ID: {}", memberId);
+        int deleted = expectedVersion == null
+                ? memberRepository.deleteByMemberId(memberId)
+                : memberRepository.deleteByMemberIdAndVersion(memberId, expectedVersion);
+        if (deleted == 0) {
+            throw noRowMatched(memberId, expectedVersion);
+        }
+        memberNameIndex.removeAfterCommit(memberId);
         log.info("Member deleted successfully with ID: {}", memberId);
-        memberRepository.delete(memberEntity);
+    }
+
+    // Only the failure path pays for telling "gone" apart from "changed since you read it"
+    private RuntimeException noRowMatched(UUID memberId, Long expectedVersion) {
+        if (expectedVersion != null && memberRepository.existsById(memberId)) {
+            log.warn("Member {} no longer at version {}", memberId, expectedVersion);
+            return new PreconditionFailedException("Member was modified by another request");
+        }
+        log.warn("Member not found with ID: {}", memberId);
+        return new MemberNotFoundException();
+    }
+
+    private static boolean isEmailConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains("email");
+            }
+        }
+        // Driver did not report a constraint name; fall back to the message text
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains("email");
     }
 }
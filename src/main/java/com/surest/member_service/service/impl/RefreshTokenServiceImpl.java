@@ -0,0 +1,115 @@
+package com.surest.member_service.service.impl;
+
+import com.surest.member_service.entities.RefreshTokenEntity;
+import com.surest.member_service.exception.InvalidRefreshTokenException;
+import com.surest.member_service.repository.RefreshTokenRepository;
+import com.surest.member_service.repository.UserRepository;
+import com.surest.member_service.service.RefreshTokenService;
+import com.surest.member_service.util.TokenVersionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    // 256 bits of randomness: a plain SHA-256 is enough to store it, no password hashing needed
+    private static final int TOKEN_BYTES = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersions;
+
+    @Value("${jwt.refresh-expiration-time:2592000000}")
+    private long refreshExpirationTime = 2_592_000_000L;
+
+    // How long revoked rows are kept so that presenting them again still revokes the family
+    @Value("${jwt.refresh-purge.revoked-grace:P7D}")
+    private Duration revokedGrace = Duration.ofDays(7);
+
+    @Override
+    @Transactional
+    public String issue(UUID userId) {
+        return store(userId, UUID.randomUUID());
+    }
+
+    @Override
+    // Family revocation on reuse must survive the exception that reports it
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshTokenEntity current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Unknown refresh token"));
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        if (current.getExpiresAt().before(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expired");
+        }
+        if (current.getRevokedAt() != null || refreshTokenRepository.markRevoked(current.getId(), now) == 0) {
+            // A rotated token came back: a copy is in someone else's hands, so end the whole session
+            log.warn("Refresh token reuse for user {}, revoking family {}", current.getUser().getUsername(), current.getFamilyId());
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            tokenVersions.revokeAccessTokens(current.getUser().getUsername());
+            throw new InvalidRefreshTokenException("Refresh token reuse detected");
+        }
+        String successor = store(current.getUser().getUserId(), current.getFamilyId());
+        return new Rotation(current.getUser(), successor);
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken)).ifPresent(token -> {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), new Timestamp(System.currentTimeMillis()));
+            tokenVersions.revokeAccessTokens(token.getUser().getUsername());
+            log.info("Revoked refresh token family {} for user {}", token.getFamilyId(), token.getUser().getUsername());
+        });
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${jwt.refresh-purge.interval:PT1H}", fixedDelayString = "${jwt.refresh-purge.interval:PT1H}")
+    @Transactional
+    public int purgeStale() {
+        long now = System.currentTimeMillis();
+        int deleted = refreshTokenRepository.deleteStale(new Timestamp(now), new Timestamp(now - revokedGrace.toMillis()));
+        log.info("Purged {} expired or revoked refresh tokens", deleted);
+        return deleted;
+    }
+
+    private String store(UUID userId, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenHash(hash(rawToken))
+                .user(userRepository.getReferenceById(userId))
+                .familyId(familyId)
+                .expiresAt(new Timestamp(System.currentTimeMillis() + refreshExpirationTime))
+                .build());
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.surest.member_service.service.impl;
 
+import com.surest.member_service.config.CacheConfig;
 import com.surest.member_service.dto.UserRequest;
 import com.surest.member_service.dto.UserResponse;
 import com.surest.member_service.entities.RoleEntity;
@@ -9,6 +10,7 @@ import com.surest.member_service.repository.RoleRepository;
 import com.surest.member_service.repository.UserRepository;
 import com.surest.member_service.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -23,6 +25,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
 
     @Override
+    @CacheEvict(value = CacheConfig.USERS, key = "#request.username")
     public UserResponse registerUser(UserRequest request) {
         if (userRepository.findByUserName(request.getUsername()).isPresent()) {
             throw new ResourceAlreadyExistsException();
@@ -1,23 +1,84 @@
 package com.surest.member_service.specification;
 
+import com.surest.member_service.dto.NameMatch;
 import com.surest.member_service.entities.MemberEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
 public class MemberSpecification {
 
+    private static final char LIKE_ESCAPE = '\\';
+
     private MemberSpecification() {
     }
 
     public static Specification<MemberEntity> filterBy(String firstName, String lastName) {
+        return filterBy(firstName, lastName, NameMatch.CONTAINS);
+    }
+
+    /**
+     * Name filters on {@code lower(column)}, matching the expression indexes from V3: CONTAINS is
+     * served by the trigram GIN indexes, PREFIX by the {@code text_pattern_ops} B-tree indexes.
+     */
+    public static Specification<MemberEntity> filterBy(String firstName, String lastName, NameMatch match) {
         return (root, query, cb) -> {
-            var predicates = cb.conjunction(); // start with "true"
-            if (firstName != null && !firstName.isBlank()) {
-                predicates.getExpressions().add(cb.like(cb.lower(root.get("firstName")), "%" + firstName.toLowerCase() + "%"));
+            // Collected here and combined once: Hibernate 6 hands out a copy from Predicate#getExpressions
+            List<Predicate> predicates = new ArrayList<>(2);
+            String first = normalizeName(firstName);
+            String last = normalizeName(lastName);
+            if (!first.isEmpty()) {
+                predicates.add(nameLike(root, cb, "firstName", first, match));
             }
-            if (lastName != null && !lastName.isBlank()) {
-                predicates.getExpressions().add(cb.like(cb.lower(root.get("lastName")), "%" + lastName.toLowerCase() + "%"));
+            if (!last.isEmpty()) {
+                predicates.add(nameLike(root, cb, "lastName", last, match));
             }
-            return predicates;
+            return cb.and(predicates.toArray(new Predicate[0])); // no filters: "true"
         };
     }
+
+    /**
+     * The form a name filter is matched in: trimmed and lower-cased, empty when absent or blank.
+     * Anything keyed by filter (e.g. cached counts) must use this so equal keys mean equal patterns.
+     */
+    public static String normalizeName(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Predicate nameLike(Root<MemberEntity> root, CriteriaBuilder cb, String attribute, String value, NameMatch match) {
+        String escaped = escapeLike(value);
+        String pattern = match == NameMatch.PREFIX ? escaped + "%" : "%" + escaped + "%";
+        return cb.like(cb.lower(root.get(attribute)), pattern, LIKE_ESCAPE);
+    }
+
+    // User input must not smuggle wildcards into the pattern: "%" would defeat the prefix index.
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Seek predicate for keyset pagination ordered by (lastName, memberId): rows strictly after the
+     * given position. Equivalent to {@code (last_name, id) > (?, ?)}; the leading {@code >=} bound
+     * lets the (last_name, id) index start the range scan at the cursor instead of filtering.
+     */
+    public static Specification<MemberEntity> after(String lastName, UUID memberId) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.<String>get("lastName"), lastName),
+                cb.or(
+                        cb.greaterThan(root.<String>get("lastName"), lastName),
+                        cb.greaterThan(root.<UUID>get("memberId"), memberId)));
+    }
 }
@@ -1,57 +1,214 @@
 package com.surest.member_service.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JWTUtil {
+    // Signed authorities, so JwtAuthFilter needs no user or role query
+    public static final String ROLES_CLAIM = "roles";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
     @Value("${jwt.secret}")
     private String SECRET;
 
     @Value("${jwt.expiration-time}")
     private long EXPIRATION_TIME;
 
+    @Value("${jwt.token-cache.enabled:false}")
+    private boolean tokenCacheEnabled;
+
+    @Value("${jwt.token-cache.maximum-size:10000}")
+    private long tokenCacheMaximumSize;
+
+    // Absent outside the application context (benchmarks, unit tests): verification is then untimed
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // jwt.verify{outcome=valid|expired|invalid}: signature checks only, cache hits show in cache.gets
+    private Timer verifyValid;
+    private Timer verifyExpired;
+    private Timer verifyInvalid;
+
     private SecretKey key;
 
+    // Immutable and thread-safe, so one instance serves every request.
+    private JwtParser jwtParser;
+
+    // SHA-256 of the token -> verified claims; null when the cache is disabled.
+    private Cache<String, Claims> verifiedTokens;
+
     @PostConstruct
     public void init() {
         key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokens = tokenCacheEnabled
+                ? Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaximumSize)
+                .expireAfter(Expiry.creating((String digest, Claims claims) -> timeToExpiry(claims)))
+                .recordStats()
+                .build()
+                : null;
+        if (meterRegistry != null) {
+            verifyValid = verifyTimer("valid");
+            verifyExpired = verifyTimer("expired");
+            verifyInvalid = verifyTimer("invalid");
+        }
+    }
+
+    public String generateToken(UserDetails user, long tokenVersion) {
+        return generateToken(user.getUsername(), user.getAuthorities(), tokenVersion);
     }
 
-    public String generateToken(String username) {
+    public String generateToken(String username, Collection<? extends GrantedAuthority> authorities, long tokenVersion) {
         return Jwts.builder()
                 .setSubject(username)
+                .claim(ROLES_CLAIM, authorities.stream().map(GrantedAuthority::getAuthority).toList())
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry of the token and returns its claims. Callers should
+     * parse once per request and pass the claims around instead of re-parsing the token.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseToken(String token) {
+        if (verifiedTokens == null) {
+            return verify(token);
+        }
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached == null) {
+            Claims claims = verify(token);
+            if (claims.getExpiration() == null) {
+                return claims;
+            }
+            cached = snapshot(claims);
+            verifiedTokens.put(digest, cached);
+        }
+        // The cached entry is shared by every request presenting the token; each caller gets its own copy
+        return Jwts.claims(cached);
+    }
+
+    public Optional<Cache<String, Claims>> verifiedTokenCache() {
+        return Optional.ofNullable(verifiedTokens);
+    }
+
     public String extractUsername(String token) {
-        return extractClaims(token).getSubject();
+        return parseToken(token).getSubject();
+    }
+
+    /**
+     * Authorities signed into the token, or null for tokens issued before roles were embedded.
+     */
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof Collection<?> names)) {
+            return null;
+        }
+        return names.stream()
+                .map(name -> (GrantedAuthority) new SimpleGrantedAuthority(name.toString()))
+                .toList();
     }
 
-    private Claims extractClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    public long extractTokenVersion(Claims claims) {
+        Object version = claims.get(TOKEN_VERSION_CLAIM);
+        return version instanceof Number number ? number.longValue() : 0L;
+    }
+
+    public boolean validateToken(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
     public boolean validateToken(String username, UserDetails userDetails, String token) {
         return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
     }
 
+    private Claims verify(String token) {
+        if (meterRegistry == null) {
+            return jwtParser.parseClaimsJws(token).getBody();
+        }
+        long started = System.nanoTime();
+        Timer outcome = verifyInvalid;
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            outcome = verifyValid;
+            return claims;
+        } catch (ExpiredJwtException e) {
+            outcome = verifyExpired;
+            throw e;
+        } finally {
+            outcome.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer verifyTimer(String outcome) {
+        return Timer.builder("jwt.verify")
+                .description("JWT signature and expiry verification")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // Copy of the parsed claims whose roles list cannot be changed through any of the copies handed out
+    private static Claims snapshot(Claims claims) {
+        Claims snapshot = Jwts.claims(claims);
+        if (snapshot.get(ROLES_CLAIM) instanceof Collection<?> roles) {
+            snapshot.put(ROLES_CLAIM, List.copyOf(roles));
+        }
+        return snapshot;
+    }
+
+    // Entries live exactly as long as the token itself is valid.
+    private static Duration timeToExpiry(Claims claims) {
+        long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(0, millis));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private boolean isTokenExpired(String token) {
         try {
-            return extractClaims(token).getExpiration().before(new Date());
+            return parseToken(token).getExpiration().before(new Date());
         } catch (ExpiredJwtException e) {
             return true;
         }
@@ -1,12 +1,16 @@
 package com.surest.member_service.util;
 
 import com.surest.member_service.service.impl.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -14,34 +18,64 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * Authenticates requests carrying a bearer token. The principal is always the username as a
+ * {@code String}, whichever path the token takes, so {@code @AuthenticationPrincipal String}
+ * works for current and legacy tokens alike; load the user explicitly when more is needed.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenVersionRegistry tokenVersions;
 
     @Override
     public void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        Claims claims = null;
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = jwtUtil.extractUsername(token); //extract username by token
+            //verify signature and expiry once, then reuse the claims
+            try {
+                claims = jwtUtil.parseToken(authHeader.substring(7));
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Rejected bearer token: {}", e.getMessage());
+            }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            //fetch user by username
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-            //validate token
-            if (jwtUtil.validateToken(username, userDetails, token)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            List<GrantedAuthority> authorities = jwtUtil.extractAuthorities(claims);
+            UsernamePasswordAuthenticationToken authToken = authorities != null
+                    ? fromClaims(claims, authorities)
+                    : fromUserDetails(claims);
+            if (authToken != null) {
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
         filterChain.doFilter(request, response);//next filter it will take
     }
+
+    //signed roles: no user or role lookup, only the in-memory revocation check
+    private UsernamePasswordAuthenticationToken fromClaims(Claims claims, List<GrantedAuthority> authorities) {
+        String username = claims.getSubject();
+        if (!tokenVersions.isCurrent(username, jwtUtil.extractTokenVersion(claims))) {
+            log.debug("Rejected revoked access token for user {}", username);
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(username, null, authorities);
+    }
+
+    //tokens issued before roles were embedded; drop once they have all expired
+    private UsernamePasswordAuthenticationToken fromUserDetails(Claims claims) {
+        UserDetails userDetails = customUserDetailsService.loadUserWithoutPassword(claims.getSubject());
+        if (!jwtUtil.validateToken(claims, userDetails)) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails.getUsername(), null, userDetails.getAuthorities());
+    }
 }
@@ -0,0 +1,31 @@
+package com.surest.member_service.util;
+
+import com.surest.member_service.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last member returned by a keyset-paginated read. Clients only see the
+ * opaque, URL-safe token produced by {@link #encode()}.
+ */
+public record MemberCursor(String lastName, UUID memberId) {
+
+    private static final char SEPARATOR = ':';
+
+    public String encode() {
+        String raw = memberId.toString() + SEPARATOR + lastName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new MemberCursor(raw.substring(separator + 1), UUID.fromString(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+}
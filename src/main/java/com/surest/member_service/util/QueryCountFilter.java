@@ -0,0 +1,113 @@
+package com.surest.member_service.util;
+
+import com.surest.member_service.config.QueryBudgetProperties;
+import com.surest.member_service.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Publishes {@code hibernate.statements.per.request{method,uri}}: how many SQL statements one request
+ * ran, and checks the count against the endpoint's budget from {@link QueryBudgetProperties}.
+ * Ordered ahead of Spring Security so lookups made while authenticating are included.
+ * <p>
+ * Only statements on the request thread are counted, so requests that go async (login, streaming
+ * export) are skipped: no header, no sample and no budget check.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final QueryCountInspector queryCountInspector;
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetProperties queryBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        queryCountInspector.start();
+        QueryCountResponse countingResponse = queryBudget.isResponseHeader() ? new QueryCountResponse(response) : null;
+        int statements;
+        try {
+            filterChain.doFilter(request, countingResponse != null ? countingResponse : response);
+        } finally {
+            statements = queryCountInspector.stop();
+            if (!request.isAsyncStarted()) {
+                if (countingResponse != null) {
+                    countingResponse.writeHeader(statements);
+                }
+                DistributionSummary.builder("hibernate.statements.per.request")
+                        .description("SQL statements prepared while handling one request")
+                        .baseUnit("statements")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uriTemplate(request))
+                        .register(meterRegistry)
+                        .record(statements);
+            }
+        }
+        //async handlers (login, export) do their work on another thread, a count here would read 0
+        if (!request.isAsyncStarted()) {
+            checkBudget(request, response, statements);
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, HttpServletResponse response, int statements) {
+        String uri = uriTemplate(request);
+        Integer budget = queryBudget.budgetFor(request.getMethod(), uri);
+        if (budget == null || statements <= budget) {
+            return;
+        }
+        meterRegistry.counter("hibernate.statements.budget.exceeded", "method", request.getMethod(), "uri", uri).increment();
+        log.warn("{} {} ran {} SQL statements, budget is {}", request.getMethod(), uri, statements, budget);
+        //MockMvc never commits the response, so FAIL turns the breach into a test failure; see Mode.FAIL
+        if (queryBudget.getMode() == QueryBudgetProperties.Mode.FAIL && !response.isCommitted()) {
+            throw new QueryBudgetExceededException(String.format("%s %s ran %d SQL statements, budget is %d",
+                    request.getMethod(), uri, statements, budget));
+        }
+    }
+
+    //route template as in http.server.requests, so tag cardinality stays bounded
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    //headers must be set before the body commits the response; statements after that are not in the header
+    private final class QueryCountResponse extends OnCommittedResponseWrapper {
+
+        private boolean written;
+
+        QueryCountResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader(queryCountInspector.current());
+        }
+
+        void writeHeader(int statements) {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (!written && !response.isCommitted()) {
+                response.setHeader(QUERY_COUNT_HEADER, Integer.toString(statements));
+                written = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.surest.member_service.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}. Registered as Hibernate's statement inspector in
+ * {@link com.surest.member_service.config.MetricsConfig}; statements outside a started scope
+ * (startup, async request threads) are not counted.
+ */
+@Component
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.count++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        CURRENT.set(new Counter());
+    }
+
+    /**
+     * Statements counted so far in the current scope, or 0 when none was started.
+     */
+    public int current() {
+        Counter counter = CURRENT.get();
+        return counter == null ? 0 : counter.count;
+    }
+
+    public int stop() {
+        int count = current();
+        CURRENT.remove();
+        return count;
+    }
+
+    private static final class Counter {
+        private int count;
+    }
+}
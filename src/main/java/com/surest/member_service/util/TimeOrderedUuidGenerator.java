@@ -0,0 +1,59 @@
+package com.surest.member_service.util;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48-bit Unix epoch milliseconds, then a 12-bit counter, then 62 random bits.
+ * The counter keeps ids from one JVM strictly increasing even when many are issued in the same
+ * millisecond; ids from different nodes interleave by time, which is enough for index locality.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long MAX_COUNTER = (1L << COUNTER_BITS) - 1;
+
+    private static final Object LOCK = new Object();
+    private static long lastMillis;
+    private static long counter;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+
+    public static UUID next() {
+        long millis;
+        long sequence;
+        synchronized (LOCK) {
+            millis = Math.max(System.currentTimeMillis(), lastMillis);
+            if (millis == lastMillis) {
+                if (counter == MAX_COUNTER) {
+                    // Counter exhausted for this millisecond; borrow the next one rather than block.
+                    millis++;
+                    counter = 0;
+                } else {
+                    counter++;
+                }
+            } else {
+                // Random start in the lower half leaves room to count up within the millisecond.
+                counter = ThreadLocalRandom.current().nextLong(MAX_COUNTER >> 1);
+            }
+            lastMillis = millis;
+            sequence = counter;
+        }
+        long mostSig = (millis << 16) | 0x7000L | sequence;
+        long leastSig = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSig, leastSig);
+    }
+}
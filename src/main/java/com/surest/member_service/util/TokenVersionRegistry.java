@@ -0,0 +1,34 @@
+package com.surest.member_service.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user access token version, checked by {@link JwtAuthFilter} instead of reloading the user.
+ * Tokens carry the version they were issued with; bumping it rejects every outstanding access token
+ * of that user, while refresh tokens keep working and mint tokens with the new version.
+ * <p>
+ * Only users that were ever revoked have an entry. The map is per instance and not persisted, so a
+ * revocation lasts at most until the access tokens it targets expire ({@code jwt.expiration-time})
+ * or the instance restarts.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public long currentVersion(String username) {
+        return versions.getOrDefault(username, 0L);
+    }
+
+    public boolean isCurrent(String username, long tokenVersion) {
+        return tokenVersion >= currentVersion(username);
+    }
+
+    // Call on logout, refresh token reuse and whenever a user's password or roles change.
+    public long revokeAccessTokens(String username) {
+        return versions.merge(username, 1L, Long::sum);
+    }
+}
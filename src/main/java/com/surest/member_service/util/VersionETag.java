@@ -0,0 +1,35 @@
+package com.surest.member_service.util;
+
+import com.surest.member_service.exception.PreconditionFailedException;
+
+/**
+ * Strong entity tags derived from an optimistic-lock version, e.g. {@code "3"}.
+ */
+public final class VersionETag {
+
+    private VersionETag() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * Version the client expects from an {@code If-Match} header, or {@code null} when the header is
+     * absent or {@code *}. Anything that cannot match a strong tag we issue fails the precondition.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new PreconditionFailedException("If-Match must be a single strong ETag");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the current version");
+        }
+    }
+}
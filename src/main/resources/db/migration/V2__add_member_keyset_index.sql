@@ -0,0 +1,2 @@
+-- Serves keyset pagination: ORDER BY last_name, id with a (last_name, id) > (?, ?) seek
+CREATE INDEX IF NOT EXISTS idx_member_last_name_id ON member (last_name, id);
@@ -0,0 +1,11 @@
+-- Index-backed name search; predicates are built in MemberSpecification.filterBy
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Substring search: lower(col) LIKE '%x%' (trigram GIN needs at least 3 characters to be selective)
+CREATE INDEX IF NOT EXISTS idx_member_first_name_trgm ON member USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_member_last_name_trgm ON member USING gin (lower(last_name) gin_trgm_ops);
+
+-- Prefix search: lower(col) LIKE 'x%'; text_pattern_ops makes the B-tree usable under any collation
+CREATE INDEX IF NOT EXISTS idx_member_first_name_prefix ON member (lower(first_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_member_last_name_prefix ON member (lower(last_name) text_pattern_ops);
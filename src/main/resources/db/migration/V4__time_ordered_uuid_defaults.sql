@@ -0,0 +1,19 @@
+-- Time-ordered (RFC 9562 v7) UUID defaults, matching TimeOrderedUuidGenerator used by the entities.
+-- Only rows inserted outside the application (seed data, manual SQL) rely on these defaults.
+-- PostgreSQL 18 ships uuidv7(); this function covers older servers.
+
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS uuid AS $$
+DECLARE
+    unix_ms BIGINT := floor(extract(epoch FROM clock_timestamp()) * 1000);
+    bytes BYTEA := gen_random_bytes(16);
+BEGIN
+    bytes := overlay(bytes PLACING substring(int8send(unix_ms) FROM 3) FROM 1 FOR 6);
+    bytes := set_byte(bytes, 6, (get_byte(bytes, 6) & 15) | 112);  -- version 7
+    bytes := set_byte(bytes, 8, (get_byte(bytes, 8) & 63) | 128);  -- RFC 4122 variant
+    RETURN encode(bytes, 'hex')::uuid;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+ALTER TABLE member ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE role ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,2 @@
+-- Optimistic locking for members (MemberEntity.version); exposed to clients as the ETag
+ALTER TABLE member ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Serve the scheduled purge in RefreshTokenServiceImpl: expired tokens and tokens revoked longer ago
+-- than the reuse-detection grace period. Only revoked rows are indexed on revoked_at.
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_token (expires_at);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_revoked_at ON refresh_token (revoked_at) WHERE revoked_at IS NOT NULL;
@@ -0,0 +1,104 @@
+package com.surest.member_service.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.service.impl.MemberCacheLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CacheConfigTest {
+
+    @Test
+    void membersCacheIsBoundedByConfiguredWeightAndTtl() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        CacheSpecProperties.Spec members = new CacheSpecProperties.Spec();
+        members.setMaximumWeight(1024L);
+        members.setExpireAfterWrite(Duration.ofMinutes(5));
+        members.setRefreshAfterWrite(Duration.ofMinutes(1));
+        properties.getSpecs().put(CacheConfig.MEMBERS, members);
+
+        CacheManager cacheManager = new CacheConfig().cacheManager(properties, mock(MemberCacheLoader.class));
+        Cache<Object, Object> nativeCache = ((CaffeineCache) cacheManager.getCache(CacheConfig.MEMBERS)).getNativeCache();
+
+        assertThat(nativeCache).isInstanceOf(LoadingCache.class);
+        assertThat(nativeCache.policy().eviction()).hasValueSatisfying(eviction -> {
+            assertThat(eviction.isWeighted()).isTrue();
+            assertThat(eviction.getMaximum()).isEqualTo(1024L);
+        });
+        assertThat(nativeCache.policy().expireAfterWrite())
+                .hasValueSatisfying(expiry -> assertThat(expiry.getExpiresAfter()).isEqualTo(Duration.ofMinutes(5)));
+        assertThat(nativeCache.policy().isRecordingStats()).isTrue();
+    }
+
+    @Test
+    void unconfiguredCachesFallBackToBoundedDefaults() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        properties.getDefaults().setMaximumSize(2);
+
+        CacheManager cacheManager = new CacheConfig().cacheManager(properties, mock(MemberCacheLoader.class));
+        Cache<Object, Object> nativeCache = ((CaffeineCache) cacheManager.getCache("adhoc")).getNativeCache();
+        for (int i = 0; i < 100; i++) {
+            nativeCache.put(UUID.randomUUID(), MemberResponse.builder().build());
+        }
+        nativeCache.cleanUp();
+
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(2);
+        assertThat(nativeCache.stats().evictionCount()).isPositive();
+    }
+
+    @Test
+    void asyncCachesServeSynchronousCallsAndLoadOnTheGivenExecutor() {
+        CacheSpecProperties properties = new CacheSpecProperties();
+        CacheSpecProperties.Spec members = new CacheSpecProperties.Spec();
+        members.setMaximumWeight(1024L);
+        members.setRefreshAfterWrite(Duration.ofMinutes(1));
+        properties.getSpecs().put(CacheConfig.MEMBERS, members);
+        AtomicInteger tasks = new AtomicInteger();
+        Executor loadExecutor = task -> {
+            tasks.incrementAndGet();
+            task.run();
+        };
+
+        CacheManager cacheManager = new CacheConfig().asyncCacheManager(properties, mock(MemberCacheLoader.class), loadExecutor);
+        org.springframework.cache.Cache cache = cacheManager.getCache(CacheConfig.MEMBERS);
+        UUID key = UUID.randomUUID();
+        MemberResponse loaded = MemberResponse.builder().memberId(key).build();
+
+        AsyncCache<Object, Object> nativeCache = ((CaffeineCache) cache).getAsyncCache();
+        assertThat(nativeCache).isInstanceOf(AsyncLoadingCache.class);
+        assertThat(nativeCache.synchronous().policy().eviction())
+                .hasValueSatisfying(eviction -> assertThat(eviction.getMaximum()).isEqualTo(1024L));
+        assertThat(cache.<MemberResponse>get(key, () -> loaded)).isSameAs(loaded);
+        assertThat(cache.<MemberResponse>get(key, () -> null)).isSameAs(loaded);
+        assertThat(tasks.get()).isPositive();
+        assertThat(((CaffeineCache) cacheManager.getCache("adhoc")).getAsyncCache()).isNotNull();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsPropertySwitchesToAsyncCaches() {
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+
+        CacheManager cacheManager = new CacheConfig().cacheManager(new CacheSpecProperties(), mock(MemberCacheLoader.class), environment);
+        org.springframework.cache.Cache cache = cacheManager.getCache(CacheConfig.MEMBERS);
+        MemberResponse loaded = MemberResponse.builder().build();
+
+        assertThat(((CaffeineCache) cache).getAsyncCache()).isNotNull();
+        assertThat(cache.<MemberResponse>get(UUID.randomUUID(), () -> loaded)).isSameAs(loaded);
+    }
+}
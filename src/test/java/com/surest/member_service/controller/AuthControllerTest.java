@@ -3,6 +3,9 @@ package com.surest.member_service.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.surest.member_service.dto.AuthRequest;
 import com.surest.member_service.dto.AuthResponse;
+import com.surest.member_service.dto.RefreshTokenRequest;
+import com.surest.member_service.exception.InvalidRefreshTokenException;
+import com.surest.member_service.exception.TooManyRequestsException;
 import com.surest.member_service.service.AuthService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -13,10 +16,17 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ActiveProfiles("test")
@@ -36,26 +46,77 @@ class AuthControllerTest {
     void testLoginSuccess() throws Exception {
         // Arrange
         AuthRequest authRequest = new AuthRequest("john_doe", "password123");
-        AuthResponse authResponse = new AuthResponse("mock-jwt-token");
-        Mockito.when(authService.generateToken(any(AuthRequest.class)))
-                .thenReturn(authResponse);
-        mockMvc.perform(post("/api/v1/auth/login")
+        AuthResponse authResponse = new AuthResponse("mock-jwt-token", "mock-refresh-token");
+        Mockito.when(authService.generateTokenAsync(any(AuthRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(authResponse));
+        MvcResult started = mockMvc.perform(post("/api/v1/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(authRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.token").value("mock-jwt-token"));
+                .andExpect(jsonPath("$.token").value("mock-jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("mock-refresh-token"));
     }
 
     @Test
     void testLoginValidationFailure() throws Exception {
         AuthRequest authRequest = new AuthRequest("john_doe", "wrong_password");
 
-        Mockito.when(authService.generateToken(any(AuthRequest.class)))
-                .thenThrow(new RuntimeException("Invalid username or password"));
-        mockMvc.perform(post("/api/v1/auth/login")
+        Mockito.when(authService.generateTokenAsync(any(AuthRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Invalid username or password")));
+        MvcResult started = mockMvc.perform(post("/api/v1/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(authRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isInternalServerError()) // or .isUnauthorized() if you handle 401 in GlobalExceptionHandler
                 .andExpect(jsonPath("$.message").value("Invalid username or password"));
     }
+
+    @Test
+    void testLoginRejectedWith429WhenAuthenticationExecutorIsSaturated() throws Exception {
+        AuthRequest authRequest = new AuthRequest("john_doe", "password123");
+        Mockito.when(authService.generateTokenAsync(any(AuthRequest.class)))
+                .thenThrow(new TooManyRequestsException("Too many concurrent logins, retry shortly", Duration.ofSeconds(2)));
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(authRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @Test
+    void testRefreshReturnsRotatedTokens() throws Exception {
+        Mockito.when(authService.refreshToken("old-refresh-token"))
+                .thenReturn(new AuthResponse("new-jwt-token", "new-refresh-token"));
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest("old-refresh-token"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("new-jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("new-refresh-token"));
+    }
+
+    @Test
+    void testRefreshRejectedWith401WhenTokenIsInvalid() throws Exception {
+        Mockito.when(authService.refreshToken("reused-token"))
+                .thenThrow(new InvalidRefreshTokenException("Refresh token reuse detected"));
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest("reused-token"))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Refresh token reuse detected"));
+    }
+
+    @Test
+    void testRevokeReturnsNoContent() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/revoke")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest("refresh-token"))))
+                .andExpect(status().isNoContent());
+        Mockito.verify(authService).revokeRefreshToken("refresh-token");
+    }
 }
@@ -1,9 +1,20 @@
 package com.surest.member_service.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest.member_service.dto.CountMode;
+import com.surest.member_service.dto.ExportFormat;
+import com.surest.member_service.dto.MemberBatchRequest;
+import com.surest.member_service.dto.MemberBatchResponse;
+import com.surest.member_service.dto.MemberImportResponse;
 import com.surest.member_service.dto.MemberRequest;
 import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.dto.MemberSliceResponse;
+import com.surest.member_service.dto.NameMatch;
+import com.surest.member_service.exception.InvalidRequestException;
 import com.surest.member_service.exception.MemberNotFoundException;
+import com.surest.member_service.exception.PreconditionFailedException;
+import com.surest.member_service.service.MemberExportService;
+import com.surest.member_service.service.MemberImportService;
 import com.surest.member_service.service.MemberService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,8 +25,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -26,14 +41,21 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -48,6 +70,12 @@ class MemberControllerTest {
     @MockitoBean
     private MemberService memberService;
 
+    @MockitoBean
+    private MemberImportService memberImportService;
+
+    @MockitoBean
+    private MemberExportService memberExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -82,7 +110,7 @@ class MemberControllerTest {
     @WithMockUser
     void getAllMembersReturnsPageForRole(String role) throws Exception {
         Page<MemberResponse> page = new PageImpl<>(List.of(validResponse));
-        when(memberService.getMembers(any(), any(), any()))
+        when(memberService.getMembers(any(), any(), eq(NameMatch.CONTAINS), eq(CountMode.EXACT), any()))
                 .thenReturn(page);
         ResultActions perform = mockMvc.perform(get("/api/v1/members")
                 .param("page", "0")
@@ -92,12 +120,60 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.content.length()").value(1));
     }
 
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void getAllMembersWithoutCountReturnsSlice() throws Exception {
+        when(memberService.getMembers(any(), any(), eq(NameMatch.CONTAINS), eq(CountMode.NONE), any()))
+                .thenReturn(new SliceImpl<>(List.of(validResponse), PageRequest.of(0, 1), true));
+        mockMvc.perform(get("/api/v1/members")
+                        .param("count", "none")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void getAllMembersRejectsUnknownCountMode() throws Exception {
+        mockMvc.perform(get("/api/v1/members").param("count", "sometimes"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getAllMembersReturns403WhenNoAuth() throws Exception {
         mockMvc.perform(get("/api/v1/members"))
                 .andExpect(status().isForbidden());
     }
 
+    // --------------------SCROLL MEMBERS --------------------
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void scrollMembersReturnsSliceWithCursor() throws Exception {
+        when(memberService.scrollMembers(null, "Doe", NameMatch.PREFIX, "abc", 5))
+                .thenReturn(new MemberSliceResponse(List.of(validResponse), 1, true, "next"));
+        mockMvc.perform(get("/api/v1/members/scroll")
+                        .param("lastName", "Doe")
+                        .param("match", "prefix")
+                        .param("cursor", "abc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void scrollMembersReturns400ForInvalidCursor() throws Exception {
+        when(memberService.scrollMembers(any(), any(), any(), any(), anyInt()))
+                .thenThrow(new InvalidRequestException("Invalid cursor"));
+        mockMvc.perform(get("/api/v1/members/scroll").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
     // --------------------GET MEMBER BY ID --------------------
     @ParameterizedTest
     @ValueSource(strings = {"USER", "ADMIN"})
@@ -110,6 +186,19 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.email").value("john@example.com"));
     }
 
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void getMemberByIdReturnsETagAnd304WhenUnchanged() throws Exception {
+        when(memberService.getMemberById(memberId)).thenReturn(validResponse.toBuilder().version(4L).build());
+
+        mockMvc.perform(get("/api/v1/members/{id}", memberId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+        mockMvc.perform(get("/api/v1/members/{id}", memberId).header("If-None-Match", "\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser(roles = {"USER"})
     void getMemberByIdReturns404WhenNotFound() throws Exception {
@@ -119,6 +208,31 @@ class MemberControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    // --------------------BATCH GET --------------------
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void getMembersByIdsReturnsMembersAndMissingIds() throws Exception {
+        UUID absent = UUID.randomUUID();
+        when(memberService.getMembersByIds(List.of(memberId, absent))).thenReturn(MemberBatchResponse.builder()
+                .members(List.of(validResponse)).missing(List.of(absent)).build());
+        mockMvc.perform(post("/api/v1/members/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MemberBatchRequest(List.of(memberId, absent)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members[0].memberId").value(memberId.toString()))
+                .andExpect(jsonPath("$.missing[0]").value(absent.toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void getMembersByIdsReturns400ForEmptyList() throws Exception {
+        mockMvc.perform(post("/api/v1/members/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+        verify(memberService, never()).getMembersByIds(any());
+    }
+
     // --------------------CREATE MEMBER --------------------
     @Test
     @WithMockUser(roles = {"ADMIN"})
@@ -143,11 +257,60 @@ class MemberControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    // --------------------IMPORT MEMBERS --------------------
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void importMembersReturnsReportForNdjsonBody() throws Exception {
+        when(memberImportService.importMembers(any(InputStream.class))).thenReturn(MemberImportResponse.builder()
+                .received(2).created(2).completed(true).rejectedRows(List.of()).build());
+        mockMvc.perform(post("/api/v1/members/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(objectMapper.writeValueAsString(validRequest) + "\n" + objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.completed").value(true));
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER"})
+    void importMembersReturns403ForUserRole() throws Exception {
+        mockMvc.perform(post("/api/v1/members/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(memberImportService);
+    }
+
+    // --------------------EXPORT MEMBERS --------------------
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void exportMembersStreamsCsv() throws Exception {
+        when(memberExportService.exportMembers(eq(ExportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write("memberId\n".getBytes());
+            return 1L;
+        });
+        ResultActions started = mockMvc.perform(get("/api/v1/members/export").param("format", "csv"))
+                .andExpect(request().asyncStarted());
+        assertEquals(Duration.ofMinutes(30).toMillis(), started.andReturn().getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(started.andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"members.csv\""))
+                .andExpect(content().string("memberId\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void exportMembersReturns400ForUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/members/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(memberExportService);
+    }
+
     // --------------------UPDATE MEMBER --------------------
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void updateMemberReturns200ForValidRequest() throws Exception {
-        when(memberService.updateMember(eq(memberId), any(MemberRequest.class))).thenReturn(validResponse);
+        when(memberService.updateMember(eq(memberId), any(MemberRequest.class), isNull())).thenReturn(validResponse);
         mockMvc.perform(put("/api/v1/members/{id}", memberId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(validResponse)))
@@ -158,7 +321,7 @@ class MemberControllerTest {
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void updateMemberReturns404WhenMemberNotFound() throws Exception {
-        when(memberService.updateMember(any(UUID.class), any(MemberRequest.class)))
+        when(memberService.updateMember(any(UUID.class), any(MemberRequest.class), any()))
                 .thenThrow(new MemberNotFoundException());
         mockMvc.perform(put("/api/v1/members/{id}", memberId)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -166,21 +329,41 @@ class MemberControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void updateMemberPassesIfMatchVersionAndReturns412WhenStale() throws Exception {
+        when(memberService.updateMember(eq(memberId), any(MemberRequest.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException("Member was modified by another request"));
+        mockMvc.perform(put("/api/v1/members/{id}", memberId)
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN"})
+    void deleteMemberReturns412ForWeakIfMatch() throws Exception {
+        mockMvc.perform(delete("/api/v1/members/{id}", memberId).header("If-Match", "W/\"2\""))
+                .andExpect(status().isPreconditionFailed());
+        verify(memberService, never()).deleteMember(any(), any());
+    }
+
     // --------------------DELETE MEMBER--------------------
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void deleteMemberReturns204WhenSuccess() throws Exception {
-        doNothing().when(memberService).deleteMember(memberId);
+        doNothing().when(memberService).deleteMember(memberId, null);
         mockMvc.perform(delete("/api/v1/members/{id}", memberId))
                 .andExpect(status().isNoContent());
-        verify(memberService, times(1)).deleteMember(memberId);
+        verify(memberService, times(1)).deleteMember(memberId, null);
     }
 
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void deleteMemberReturns404WhenNotFound() throws Exception {
         doThrow(new MemberNotFoundException())
-                .when(memberService).deleteMember(memberId);
+                .when(memberService).deleteMember(memberId, null);
         mockMvc.perform(delete("/api/v1/members/{id}", memberId))
                 .andExpect(status().isNotFound());
     }
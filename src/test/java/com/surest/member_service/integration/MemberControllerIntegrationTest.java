@@ -80,8 +80,8 @@ class MemberControllerIntegrationTest {
                 .build();
         userRepository.save(user);
 
-        adminToken = jwtUtil.generateToken(admin.getUsername());
-        userToken = jwtUtil.generateToken(user.getUsername());
+        adminToken = jwtUtil.generateToken(admin, 0L);
+        userToken = jwtUtil.generateToken(user, 0L);
     }
 
     @Test
@@ -130,6 +130,27 @@ class MemberControllerIntegrationTest {
                 .andExpect(jsonPath("$.email").value("mary.elizabeth@example.com"));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/members - should return 409 when the email is already taken")
+    void createMemberConflictOnDuplicateEmail() throws Exception {
+        MemberRequest request = new MemberRequest(
+                "Mary", "Elizabeth", LocalDate.of(1990, 1, 1), "mary.elizabeth@example.com"
+        );
+        String body = objectMapper.writeValueAsString(request);
+
+        mockMvc.perform(post("/api/v1/members")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/v1/members")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict());
+        assertThat(memberRepository.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("POST /api/v1/members - should forbid creation as USER")
     void createMemberForbiddenForRegularUser() throws Exception {
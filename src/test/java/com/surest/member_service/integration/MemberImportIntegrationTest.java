@@ -0,0 +1,116 @@
+package com.surest.member_service.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest.member_service.dto.MemberImportResponse;
+import com.surest.member_service.dto.MemberImportRowResult;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.mapper.MemberMapper;
+import com.surest.member_service.repository.MemberRepository;
+import com.surest.member_service.service.impl.MemberImportServiceImpl;
+import com.surest.member_service.service.impl.MemberNameIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Member import against the H2 schema. Runs outside a test transaction because the import commits
+ * its own batches and the competing insert has to be committed by another transaction.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(excludeAutoConfiguration = {org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberImportIntegrationTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("IMPORT - an email taken after the duplicate check is reported as DUPLICATE, the rest of the batch is kept")
+    void concurrentInsertOfSameEmailFallsBackToRowByRowInserts() throws Exception {
+        AtomicBoolean collided = new AtomicBoolean();
+        MemberRepository racingRepository = mock(MemberRepository.class, delegatesTo(memberRepository));
+        // Another writer commits b@x.com between the pre-check and the batch insert
+        doAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            if (collided.compareAndSet(false, true)) {
+                insertInSeparateTransaction("b@x.com");
+            }
+            return memberRepository.findExistingEmails(emails);
+        }).when(racingRepository).findExistingEmails(anyCollection());
+
+        MemberImportServiceImpl importService = new MemberImportServiceImpl(
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                racingRepository,
+                new MemberMapper(),
+                mock(MemberNameIndex.class),
+                new TransactionTemplate(transactionManager),
+                entityManager);
+        String body = String.join("\n", row("A", "a@x.com"), row("B", "b@x.com"), row("C", "c@x.com"));
+
+        MemberImportResponse response = importService.importMembers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.isCompleted()).isTrue();
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getDuplicates()).isEqualTo(1);
+        assertThat(response.getRejectedRows()).singleElement().satisfies(rejected -> {
+            assertThat(rejected.getRow()).isEqualTo(2L);
+            assertThat(rejected.getStatus()).isEqualTo(MemberImportRowResult.Status.DUPLICATE);
+        });
+        assertThat(memberRepository.findAll()).extracting(MemberEntity::getFirstName)
+                .containsExactlyInAnyOrder("A", "Other", "C");
+    }
+
+    private void insertInSeparateTransaction(String email) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        requiresNew.executeWithoutResult(status -> memberRepository.save(MemberEntity.builder()
+                .firstName("Other")
+                .lastName("Writer")
+                .dateOfBirth(LocalDate.of(1980, 5, 5))
+                .email(email)
+                .createdAt(now)
+                .updatedAt(now)
+                .build()));
+    }
+
+    private static String row(String first, String email) {
+        return "{\"firstName\":\"" + first + "\",\"lastName\":\"Doe\",\"dateOfBirth\":\"1990-01-01\",\"email\":\"" + email + "\"}";
+    }
+}
@@ -0,0 +1,195 @@
+package com.surest.member_service.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surest.member_service.dto.AuthRequest;
+import com.surest.member_service.dto.MemberRequest;
+import com.surest.member_service.dto.RefreshTokenRequest;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.entities.RoleEntity;
+import com.surest.member_service.entities.UserEntity;
+import com.surest.member_service.repository.MemberRepository;
+import com.surest.member_service.repository.RefreshTokenRepository;
+import com.surest.member_service.repository.RoleRepository;
+import com.surest.member_service.repository.UserRepository;
+import com.surest.member_service.util.JWTUtil;
+import com.surest.member_service.util.QueryCountFilter;
+import com.surest.member_service.util.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exact SQL statement counts for the main member and auth flows. A failure here means a change added
+ * queries to a request (an EAGER association, a lazy load in a loop, a lost cache hit); update the
+ * expected count only when the extra statement is intended.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryCountIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JWTUtil jwtUtil;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private SqlStatementCounter statements;
+    private String adminToken;
+
+    @BeforeEach
+    void setup() {
+        cleanUp();
+        RoleEntity adminRole = roleRepository.save(RoleEntity.builder().name("ROLE_ADMIN").build());
+        UserEntity admin = userRepository.save(UserEntity.builder()
+                .userName("query-admin")
+                .passwordHash(passwordEncoder.encode("password"))
+                .roles(Set.of(adminRole))
+                .build());
+        adminToken = jwtUtil.generateToken(admin, 0L);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statements = new SqlStatementCounter(entityManagerFactory);
+        statements.reset();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        refreshTokenRepository.deleteAll();
+        memberRepository.deleteAll();
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/members/{id} - one select on a cache miss, none on a hit")
+    void getMemberById() throws Exception {
+        MemberEntity member = memberRepository.save(member("get@example.com"));
+        statements.reset();
+
+        mockMvc.perform(get("/api/v1/members/{id}", member.getMemberId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "1"));
+        statements.assertStatements(1);
+
+        statements.reset();
+        mockMvc.perform(get("/api/v1/members/{id}", member.getMemberId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "0"));
+        statements.assertStatements(0);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/members - a single insert, no existence check")
+    void createMember() throws Exception {
+        MemberRequest request = MemberRequest.builder()
+                .firstName("Query")
+                .lastName("Count")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .email("create@example.com")
+                .build();
+
+        mockMvc.perform(post("/api/v1/members")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        statements.assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/members/{id} - a single delete, no read first")
+    void deleteMember() throws Exception {
+        MemberEntity member = memberRepository.save(member("delete@example.com"));
+        statements.reset();
+
+        mockMvc.perform(delete("/api/v1/members/{id}", member.getMemberId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNoContent());
+        statements.assertStatements(1);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/login - user, its roles and the refresh token insert")
+    void login() throws Exception {
+        login("query-admin");
+        statements.assertStatements(3);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/refresh - token with owner, roles, revoke and successor insert")
+    void refresh() throws Exception {
+        String refreshToken = login("query-admin");
+        statements.reset();
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk());
+        statements.assertStatements(4);
+    }
+
+    private String login(String username) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(username, "password"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("refreshToken").asText();
+    }
+
+    private static MemberEntity member(String email) {
+        return MemberEntity.builder()
+                .firstName("Query")
+                .lastName("Count")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .email(email)
+                .build();
+    }
+}
@@ -1,15 +1,22 @@
 package com.surest.member_service.repository;
 
+import com.surest.member_service.dto.NameMatch;
 import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.specification.MemberSpecification;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -21,6 +28,9 @@ class MemberRepositoryTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private MemberEntity createSampleMember() {
         return MemberEntity.builder()
                 .firstName("John")
@@ -86,6 +96,50 @@ class MemberRepositoryTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("UPDATE - should update in place without loading the member first")
+    void testUpdateInPlace() {
+        MemberEntity saved = memberRepository.saveAndFlush(createSampleMember());
+        entityManager.clear();
+        MemberEntity values = MemberEntity.builder()
+                .firstName("Jane")
+                .lastName("Smith")
+                .dateOfBirth(LocalDate.of(1991, 2, 2))
+                .email("jane.smith@example.com")
+                .updatedAt(new Timestamp(System.currentTimeMillis()))
+                .build();
+
+        Optional<MemberEntity> updated = memberRepository.updateInPlace(saved.getMemberId(), values, null);
+
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getFirstName()).isEqualTo("Jane");
+        assertThat(updated.get().getEmail()).isEqualTo("jane.smith@example.com");
+        assertThat(updated.get().getCreatedAt()).isEqualTo(saved.getCreatedAt());
+        assertThat(updated.get().getVersion()).isEqualTo(saved.getVersion() + 1);
+        assertThat(memberRepository.updateInPlace(UUID.randomUUID(), values, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("UPDATE/DELETE - should match nothing when the expected version is stale")
+    void testVersionedMutationsRejectStaleVersion() {
+        MemberEntity saved = memberRepository.saveAndFlush(createSampleMember());
+        long staleVersion = saved.getVersion() + 5;
+        entityManager.clear();
+
+        assertThat(memberRepository.updateInPlace(saved.getMemberId(), saved, staleVersion)).isEmpty();
+        assertThat(memberRepository.deleteByMemberIdAndVersion(saved.getMemberId(), staleVersion)).isZero();
+        assertThat(memberRepository.deleteByMemberIdAndVersion(saved.getMemberId(), saved.getVersion())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DELETE - should report the affected row count")
+    void testDeleteByMemberId() {
+        MemberEntity saved = memberRepository.saveAndFlush(createSampleMember());
+
+        assertThat(memberRepository.deleteByMemberId(saved.getMemberId())).isEqualTo(1);
+        assertThat(memberRepository.deleteByMemberId(saved.getMemberId())).isZero();
+    }
+
     @Test
     @DisplayName("should throw error on duplicate email")
     void testDuplicateEmail() {
@@ -111,4 +165,47 @@ class MemberRepositoryTest {
         );
     }
 
+    @Test
+    @DisplayName("READ - should seek past the cursor position in (lastName, id) order")
+    void testFindWindowAfterKeysetPosition() {
+        for (String lastName : List.of("Adams", "Brown", "Brown", "Clark")) {
+            memberRepository.saveAndFlush(MemberEntity.builder()
+                    .firstName("Sam")
+                    .lastName(lastName)
+                    .dateOfBirth(LocalDate.of(1990, 1, 1))
+                    .email(lastName + "-" + System.nanoTime() + "@example.com")
+                    .build());
+        }
+        Sort keyset = Sort.by("lastName", "memberId");
+        List<MemberEntity> first = memberRepository.findWindow(MemberSpecification.filterBy(null, null), keyset, 0, 2);
+        MemberEntity last = first.get(1);
+
+        List<MemberEntity> rest = memberRepository.findWindow(
+                MemberSpecification.filterBy(null, null).and(MemberSpecification.after(last.getLastName(), last.getMemberId())),
+                keyset, 0, 10);
+
+        assertThat(first).extracting(MemberEntity::getLastName).containsExactly("Adams", "Brown");
+        assertThat(rest).extracting(MemberEntity::getLastName).containsExactly("Brown", "Clark");
+        assertThat(rest).extracting(MemberEntity::getMemberId).doesNotContain(last.getMemberId());
+    }
+
+    @Test
+    @DisplayName("READ - should match names by prefix and treat wildcards literally")
+    void testFilterByPrefixEscapesWildcards() {
+        memberRepository.saveAndFlush(createSampleMember());
+        memberRepository.saveAndFlush(MemberEntity.builder()
+                .firstName("Ann")
+                .lastName("Odonnell")
+                .dateOfBirth(LocalDate.of(1992, 2, 2))
+                .email("ann@example.com")
+                .build());
+
+        assertThat(memberRepository.findAll(MemberSpecification.filterBy(null, "do", NameMatch.PREFIX)))
+                .extracting(MemberEntity::getLastName).containsExactly("Doe");
+        assertThat(memberRepository.findAll(MemberSpecification.filterBy(null, "do", NameMatch.CONTAINS)))
+                .extracting(MemberEntity::getLastName).containsExactlyInAnyOrder("Doe", "Odonnell");
+        assertThat(memberRepository.findAll(MemberSpecification.filterBy(null, "%", NameMatch.CONTAINS))).isEmpty();
+        assertThat(memberRepository.findAll(MemberSpecification.filterBy(null, " DO ", NameMatch.PREFIX)))
+                .extracting(MemberEntity::getLastName).containsExactly("Doe");
+    }
 }
@@ -0,0 +1,103 @@
+package com.surest.member_service.repository;
+
+import com.surest.member_service.entities.RefreshTokenEntity;
+import com.surest.member_service.entities.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DataJpaTest(excludeAutoConfiguration = {org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration.class})
+class RefreshTokenRepositoryTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private UserEntity user;
+    private Timestamp now;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.saveAndFlush(UserEntity.builder()
+                .userName("john_doe")
+                .passwordHash("hashed_password")
+                .build());
+        now = new Timestamp(System.currentTimeMillis());
+    }
+
+    private RefreshTokenEntity token(UUID familyId, long expiresInMillis, Timestamp revokedAt) {
+        return refreshTokenRepository.saveAndFlush(RefreshTokenEntity.builder()
+                .tokenHash(UUID.randomUUID().toString().replace("-", ""))
+                .user(user)
+                .familyId(familyId)
+                .expiresAt(new Timestamp(now.getTime() + expiresInMillis))
+                .revokedAt(revokedAt)
+                .build());
+    }
+
+    private RefreshTokenEntity reload(RefreshTokenEntity token) {
+        entityManager.clear();
+        return refreshTokenRepository.findById(token.getId()).orElse(null);
+    }
+
+    @Test
+    @DisplayName("UPDATE - markRevoked succeeds once per token")
+    void testMarkRevokedIsCompareAndSet() {
+        RefreshTokenEntity token = token(UUID.randomUUID(), HOUR, null);
+
+        assertThat(refreshTokenRepository.markRevoked(token.getId(), now)).isEqualTo(1);
+        assertThat(refreshTokenRepository.markRevoked(token.getId(), new Timestamp(now.getTime() + 1000))).isZero();
+
+        assertThat(reload(token).getRevokedAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("UPDATE - revokeFamily revokes the live tokens of one family only")
+    void testRevokeFamilyLeavesOtherFamiliesAndEarlierRevocations() {
+        UUID familyId = UUID.randomUUID();
+        Timestamp earlier = new Timestamp(now.getTime() - HOUR);
+        RefreshTokenEntity rotated = token(familyId, HOUR, earlier);
+        RefreshTokenEntity current = token(familyId, HOUR, null);
+        RefreshTokenEntity otherFamily = token(UUID.randomUUID(), HOUR, null);
+
+        assertThat(refreshTokenRepository.revokeFamily(familyId, now)).isEqualTo(1);
+
+        assertThat(reload(rotated).getRevokedAt()).isEqualTo(earlier);
+        assertThat(reload(current).getRevokedAt()).isEqualTo(now);
+        assertThat(reload(otherFamily).getRevokedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("DELETE - deleteStale removes expired and long-revoked tokens only")
+    void testDeleteStale() {
+        Timestamp revokedBefore = new Timestamp(now.getTime() - 24 * HOUR);
+        RefreshTokenEntity expired = token(UUID.randomUUID(), -HOUR, null);
+        RefreshTokenEntity longRevoked = token(UUID.randomUUID(), HOUR, new Timestamp(now.getTime() - 48 * HOUR));
+        RefreshTokenEntity recentlyRevoked = token(UUID.randomUUID(), HOUR, new Timestamp(now.getTime() - HOUR));
+        RefreshTokenEntity live = token(UUID.randomUUID(), HOUR, null);
+
+        assertThat(refreshTokenRepository.deleteStale(now, revokedBefore)).isEqualTo(2);
+
+        assertThat(reload(expired)).isNull();
+        assertThat(reload(longRevoked)).isNull();
+        assertThat(reload(recentlyRevoked)).isNotNull();
+        assertThat(reload(live)).isNotNull();
+    }
+}
@@ -1,20 +1,37 @@
 package com.surest.member_service.service.impl;
 
+import com.surest.member_service.config.AuthExecutorProperties;
 import com.surest.member_service.dto.AuthRequest;
 import com.surest.member_service.dto.AuthResponse;
+import com.surest.member_service.entities.UserEntity;
+import com.surest.member_service.exception.InvalidRefreshTokenException;
+import com.surest.member_service.exception.TooManyRequestsException;
+import com.surest.member_service.service.RefreshTokenService;
 import com.surest.member_service.util.JWTUtil;
+import com.surest.member_service.util.TokenVersionRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 class AuthServiceImplTest {
@@ -25,6 +42,18 @@ class AuthServiceImplTest {
     @Mock
     private JWTUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Spy
+    private TokenVersionRegistry tokenVersions = new TokenVersionRegistry();
+
+    @Mock
+    private ExecutorService authenticationExecutor;
+
+    @Spy
+    private AuthExecutorProperties authExecutorProperties = new AuthExecutorProperties();
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -37,15 +66,18 @@ class AuthServiceImplTest {
     void generateTokenShouldReturnTokenWhenAuthenticationIsSuccessful() throws Exception {
         AuthRequest authRequest = AuthRequest.builder().username("john_doe").password("password123").build();
         String mockToken = "mock-jwt-token";
+        UserEntity user = UserEntity.builder().userId(UUID.randomUUID()).userName("john_doe").build();
         when(authenticationManager.authenticate(
                 any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(null);
-        when(jwtUtil.generateToken("john_doe")).thenReturn(mockToken);
+                .thenReturn(authenticated(user));
+        when(jwtUtil.generateToken(user, 0L)).thenReturn(mockToken);
+        when(refreshTokenService.issue(user.getUserId())).thenReturn("mock-refresh-token");
         AuthResponse response = authService.generateToken(authRequest);
         assertThat(response.getToken()).isEqualTo(mockToken);
+        assertThat(response.getRefreshToken()).isEqualTo("mock-refresh-token");
         verify(authenticationManager, times(1))
                 .authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(jwtUtil, times(1)).generateToken("john_doe");
+        verify(jwtUtil, times(1)).generateToken(user, 0L);
     }
 
     @Test
@@ -61,7 +93,7 @@ class AuthServiceImplTest {
         assertThat(exception.getMessage()).isEqualTo("Invalid username or password");
         verify(authenticationManager, times(1))
                 .authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(jwtUtil, never()).generateToken(anyString());
+        verify(jwtUtil, never()).generateToken(any(UserEntity.class), anyLong());
     }
 
     @Test
@@ -75,6 +107,69 @@ class AuthServiceImplTest {
                 () -> authService.generateToken(authRequest)
         );
         assertThat(exception.getMessage()).isEqualTo("Authentication system failure");
-        verify(jwtUtil, never()).generateToken(anyString());
+        verify(jwtUtil, never()).generateToken(any(UserEntity.class), anyLong());
+    }
+
+    @Test
+    void generateTokenAsyncRunsOnAuthenticationExecutor() throws Exception {
+        AuthRequest authRequest = AuthRequest.builder().username("john_doe").password("password123").build();
+        when(jwtUtil.generateToken(any(UserEntity.class), anyLong())).thenReturn("mock-jwt-token");
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "auth-test"));
+        try {
+            AuthServiceImpl asyncService = new AuthServiceImpl(authenticationManager, jwtUtil, refreshTokenService, tokenVersions, executor, authExecutorProperties);
+            AtomicReference<String> authenticatingThread = new AtomicReference<>();
+            UserEntity user = UserEntity.builder().userId(UUID.randomUUID()).userName("john_doe").build();
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenAnswer(invocation -> {
+                authenticatingThread.set(Thread.currentThread().getName());
+                return authenticated(user);
+            });
+
+            AuthResponse response = asyncService.generateTokenAsync(authRequest).get(5, TimeUnit.SECONDS);
+
+            assertThat(response.getToken()).isEqualTo("mock-jwt-token");
+            assertThat(authenticatingThread.get()).isEqualTo("auth-test");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void generateTokenAsyncThrowsTooManyRequestsWhenExecutorIsSaturated() {
+        AuthRequest authRequest = AuthRequest.builder().username("john_doe").password("password123").build();
+        authExecutorProperties.setRetryAfter(Duration.ofSeconds(2));
+        doThrow(new RejectedExecutionException("saturated")).when(authenticationExecutor).execute(any(Runnable.class));
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> authService.generateTokenAsync(authRequest));
+
+        assertThat(exception.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void refreshTokenIssuesAccessTokenForRotatedOwnerWithoutAuthenticating() {
+        UserEntity user = UserEntity.builder().userId(UUID.randomUUID()).userName("john_doe").build();
+        when(refreshTokenService.rotate("old-refresh-token"))
+                .thenReturn(new RefreshTokenService.Rotation(user, "new-refresh-token"));
+        tokenVersions.revokeAccessTokens("john_doe");
+        when(jwtUtil.generateToken(user, 1L)).thenReturn("new-jwt-token");
+
+        AuthResponse response = authService.refreshToken("old-refresh-token");
+
+        assertThat(response.getToken()).isEqualTo("new-jwt-token");
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void refreshTokenPropagatesInvalidRefreshToken() {
+        when(refreshTokenService.rotate("reused")).thenThrow(new InvalidRefreshTokenException("Refresh token reuse detected"));
+
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refreshToken("reused"));
+        verify(jwtUtil, never()).generateToken(any(UserEntity.class), anyLong());
+    }
+
+    private static UsernamePasswordAuthenticationToken authenticated(UserEntity user) {
+        return new UsernamePasswordAuthenticationToken(user, null, List.of());
     }
 }
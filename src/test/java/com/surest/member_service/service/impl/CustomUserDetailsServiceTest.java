@@ -1,16 +1,23 @@
 package com.surest.member_service.service.impl;
 
+import com.surest.member_service.entities.RoleEntity;
 import com.surest.member_service.entities.UserEntity;
 import com.surest.member_service.repository.UserRepository;
+import com.surest.member_service.util.TokenVersionRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -19,6 +26,9 @@ class CustomUserDetailsServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private TokenVersionRegistry tokenVersions = new TokenVersionRegistry();
+
     @InjectMocks
     private CustomUserDetailsService customUserDetailsService;
 
@@ -50,4 +60,26 @@ class CustomUserDetailsServiceTest {
         assertEquals("Username not found", exception.getMessage());
         verify(userRepository, times(1)).findByUserName(username);
     }
+
+    @Test
+    void loadUserWithoutPasswordKeepsRolesAndDropsPasswordHash() {
+        String username = "john_doe";
+        UserEntity userEntity = new UserEntity();
+        userEntity.setUserName(username);
+        userEntity.setPasswordHash("password123");
+        userEntity.setRoles(Set.of(RoleEntity.builder().name("ROLE_ADMIN").build()));
+        when(userRepository.findByUserName(username)).thenReturn(Optional.of(userEntity));
+        UserDetails result = customUserDetailsService.loadUserWithoutPassword(username);
+        assertEquals(username, result.getUsername());
+        assertEquals("", result.getPassword());
+        assertEquals(List.of("ROLE_ADMIN"), result.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertInstanceOf(User.class, result);
+    }
+
+    @Test
+    void evictUserRevokesOutstandingAccessTokens() {
+        customUserDetailsService.evictUser("john_doe");
+        assertFalse(tokenVersions.isCurrent("john_doe", 0L));
+        assertTrue(tokenVersions.isCurrent("john_doe", 1L));
+    }
 }
@@ -1,12 +1,18 @@
 package com.surest.member_service.service.impl;
 
 import com.surest.member_service.util.JWTUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -27,14 +33,14 @@ class JWTUtilTest {
 
     @Test
     void testGenerateTokenNotNull() {
-        String token = jwtUtil.generateToken("testUser");
+        String token = jwtUtil.generateToken("testUser", List.of(), 0L);
         assertNotNull(token, "Generated token should not be null");
     }
 
     @Test
     void testExtractUsername() {
         String username = "testUser";
-        String token = jwtUtil.generateToken(username);
+        String token = jwtUtil.generateToken(username, List.of(), 0L);
         String extractedUsername = jwtUtil.extractUsername(token);
         assertEquals(username, extractedUsername, "Extracted username should match the original");
     }
@@ -44,7 +50,7 @@ class JWTUtilTest {
         String username = "testUser";
         UserDetails userDetails = mock(UserDetails.class);
         when(userDetails.getUsername()).thenReturn(username);
-        String token = jwtUtil.generateToken(username);
+        String token = jwtUtil.generateToken(username, List.of(), 0L);
         assertTrue(jwtUtil.validateToken(username, userDetails, token), "Token should be valid");
     }
 
@@ -52,7 +58,7 @@ class JWTUtilTest {
     void testValidateTokenFailureForWrongUsername() {
         UserDetails userDetails = mock(UserDetails.class);
         when(userDetails.getUsername()).thenReturn("otherUser");
-        String token = jwtUtil.generateToken("testUser");
+        String token = jwtUtil.generateToken("testUser", List.of(), 0L);
         assertFalse(jwtUtil.validateToken("testUser", userDetails, token), "Token should be invalid for wrong username");
     }
 
@@ -63,7 +69,7 @@ class JWTUtilTest {
         String username = "testUser";
         UserDetails userDetails = mock(UserDetails.class);
         when(userDetails.getUsername()).thenReturn(username);
-        String token = jwtUtil.generateToken(username);
+        String token = jwtUtil.generateToken(username, List.of(), 0L);
         Thread.sleep(1100L);
         assertFalse(jwtUtil.validateToken(username, userDetails, token));
     }
@@ -72,17 +78,121 @@ class JWTUtilTest {
     void tokenExpirationThrowsExpiredJwtException() throws InterruptedException {
         ReflectionTestUtils.setField(jwtUtil, "EXPIRATION_TIME", 100L);
         jwtUtil.init();
-        String token = jwtUtil.generateToken("testUser");
+        String token = jwtUtil.generateToken("testUser", List.of(), 0L);
         Thread.sleep(200L);
         assertThrows(ExpiredJwtException.class, () -> {
             jwtUtil.extractUsername(token);
         });
     }
 
+    @Test
+    void testParseTokenReturnsVerifiedClaims() {
+        String token = jwtUtil.generateToken("testUser", List.of(), 0L);
+        Claims claims = jwtUtil.parseToken(token);
+        assertEquals("testUser", claims.getSubject());
+        assertNotNull(claims.getExpiration());
+    }
+
+    @Test
+    void testValidateTokenWithClaims() {
+        UserDetails userDetails = mock(UserDetails.class);
+        when(userDetails.getUsername()).thenReturn("testUser");
+        Claims claims = jwtUtil.parseToken(jwtUtil.generateToken("testUser", List.of(), 0L));
+        assertTrue(jwtUtil.validateToken(claims, userDetails));
+
+        when(userDetails.getUsername()).thenReturn("otherUser");
+        assertFalse(jwtUtil.validateToken(claims, userDetails));
+    }
+
+    @Test
+    void testParseTokenRejectsTokenSignedWithOtherKey() {
+        JWTUtil otherUtil = new JWTUtil();
+        ReflectionTestUtils.setField(otherUtil, "SECRET", "othersecretothersecretothersecret");
+        ReflectionTestUtils.setField(otherUtil, "EXPIRATION_TIME", EXPIRATION_TIME);
+        otherUtil.init();
+        String foreignToken = otherUtil.generateToken("testUser", List.of(), 0L);
+        assertThrows(io.jsonwebtoken.JwtException.class, () -> jwtUtil.parseToken(foreignToken));
+    }
+
+    @Test
+    void testParseTokenServesRepeatedTokensFromVerifiedCache() {
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheEnabled", true);
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheMaximumSize", 100L);
+        jwtUtil.init();
+        String token = jwtUtil.generateToken("testUser", List.of(), 0L);
+
+        Claims first = jwtUtil.parseToken(token);
+        Claims second = jwtUtil.parseToken(token);
+
+        assertEquals(first, second);
+        assertEquals(1, jwtUtil.verifiedTokenCache().orElseThrow().stats().hitCount());
+    }
+
+    @Test
+    void testCachedClaimsAreNotChangedByCallers() {
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheEnabled", true);
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheMaximumSize", 100L);
+        jwtUtil.init();
+        String token = jwtUtil.generateToken("testUser", List.of(new SimpleGrantedAuthority("ROLE_USER")), 0L);
+
+        Claims first = jwtUtil.parseToken(token);
+        first.setSubject("intruder");
+        first.put(JWTUtil.ROLES_CLAIM, List.of("ROLE_ADMIN"));
+        Claims second = jwtUtil.parseToken(token);
+
+        assertNotSame(first, second);
+        assertEquals("testUser", second.getSubject());
+        assertEquals(List.of("ROLE_USER"), second.get(JWTUtil.ROLES_CLAIM));
+        assertThrows(UnsupportedOperationException.class, () -> second.get(JWTUtil.ROLES_CLAIM, List.class).clear());
+    }
+
+    @Test
+    void testVerifiedCacheIsDisabledByDefault() {
+        jwtUtil.parseToken(jwtUtil.generateToken("testUser", List.of(), 0L));
+        assertTrue(jwtUtil.verifiedTokenCache().isEmpty());
+    }
+
     @Test
     void generateTokenContainsUsername() {
         String username = "testUser";
-        String token = jwtUtil.generateToken(username);
+        String token = jwtUtil.generateToken(username, List.of(), 0L);
         assertTrue(token.contains("."), "JWT token should contain dots separating header, payload, signature");
     }
+
+    @Test
+    void generateTokenEmbedsRolesAndTokenVersion() {
+        List<GrantedAuthority> roles = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER"));
+        Claims claims = jwtUtil.parseToken(jwtUtil.generateToken("testUser", roles, 3L));
+        assertEquals(roles, jwtUtil.extractAuthorities(claims));
+        assertEquals(3L, jwtUtil.extractTokenVersion(claims));
+    }
+
+    @Test
+    void extractAuthoritiesIsNullForTokensWithoutRolesClaim() {
+        String legacyToken = io.jsonwebtoken.Jwts.builder()
+                .setSubject("testUser")
+                .setExpiration(new java.util.Date(System.currentTimeMillis() + EXPIRATION_TIME))
+                .signWith(io.jsonwebtoken.security.Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+        Claims claims = jwtUtil.parseToken(legacyToken);
+        assertNull(jwtUtil.extractAuthorities(claims));
+        assertEquals(0L, jwtUtil.extractTokenVersion(claims));
+    }
+
+    @Test
+    void parseTokenRecordsVerificationTimerByOutcome() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", registry);
+        jwtUtil.init();
+        jwtUtil.parseToken(jwtUtil.generateToken("testUser", List.of(), 0L));
+
+        ReflectionTestUtils.setField(jwtUtil, "EXPIRATION_TIME", 1L);
+        jwtUtil.init();
+        String expired = jwtUtil.generateToken("testUser", List.of(), 0L);
+        Thread.sleep(5L);
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseToken(expired));
+
+        assertEquals(1, registry.get("jwt.verify").tag("outcome", "valid").timer().count());
+        assertEquals(1, registry.get("jwt.verify").tag("outcome", "expired").timer().count());
+    }
 }
@@ -2,6 +2,9 @@ package com.surest.member_service.service.impl;
 
 import com.surest.member_service.util.JWTUtil;
 import com.surest.member_service.util.JwtAuthFilter;
+import com.surest.member_service.util.TokenVersionRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,13 +14,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +41,9 @@ class JwtAuthFilterTest {
     @Mock
     private CustomUserDetailsService customUserDetailsService;
 
+    @Spy
+    private TokenVersionRegistry tokenVersions = new TokenVersionRegistry();
+
     @Mock
     private HttpServletRequest request;
 
@@ -44,10 +56,15 @@ class JwtAuthFilterTest {
     @Mock
     private UserDetails userDetails;
 
+    @Mock
+    private Claims claims;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         SecurityContextHolder.clearContext();
+        // tokens without a roles claim take the UserDetailsService path unless a test says otherwise
+        when(jwtUtil.extractAuthorities(claims)).thenReturn(null);
     }
 
     @Test
@@ -57,13 +74,16 @@ class JwtAuthFilterTest {
         String authHeader = "Bearer " + token;
 
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtUtil.extractUsername(token)).thenReturn(username);
-        when(customUserDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(username, userDetails, token)).thenReturn(true);
+        when(jwtUtil.parseToken(token)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn(username);
+        when(customUserDetailsService.loadUserWithoutPassword(username)).thenReturn(userDetails);
+        when(userDetails.getUsername()).thenReturn(username);
+        when(jwtUtil.validateToken(claims, userDetails)).thenReturn(true);
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
-        assertEquals(userDetails, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        // Same principal type as the signed-roles path
+        assertEquals(username, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
 
         verify(filterChain).doFilter(request, response);
     }
@@ -75,9 +95,10 @@ class JwtAuthFilterTest {
         String authHeader = "Bearer " + token;
 
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtUtil.extractUsername(token)).thenReturn(username);
-        when(customUserDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(username, userDetails, token)).thenReturn(false);
+        when(jwtUtil.parseToken(token)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn(username);
+        when(customUserDetailsService.loadUserWithoutPassword(username)).thenReturn(userDetails);
+        when(jwtUtil.validateToken(claims, userDetails)).thenReturn(false);
 
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
@@ -107,7 +128,8 @@ class JwtAuthFilterTest {
         String authHeader = "Bearer " + token;
 
         when(request.getHeader("Authorization")).thenReturn(authHeader);
-        when(jwtUtil.extractUsername(token)).thenReturn(username);
+        when(jwtUtil.parseToken(token)).thenReturn(claims);
+        when(claims.getSubject()).thenReturn(username);
 
         jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
@@ -116,6 +138,19 @@ class JwtAuthFilterTest {
         verify(filterChain).doFilter(request, response);
     }
 
+    @Test
+    void testDoFilterInternalWithExpiredTokenContinuesUnauthenticated() throws ServletException, IOException {
+        String token = "expired-token";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(jwtUtil.parseToken(token)).thenThrow(new ExpiredJwtException(null, null, "JWT expired"));
+
+        jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(customUserDetailsService, never()).loadUserWithoutPassword(anyString());
+        verify(filterChain).doFilter(request, response);
+    }
+
     @Test
     void testDoFilterInternalWithNonBearerHeaderDoesNothing() throws ServletException, IOException {
         when(request.getHeader("Authorization")).thenReturn("Basic somecredentials");
@@ -125,4 +160,37 @@ class JwtAuthFilterTest {
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
     }
+
+    @Test
+    void testDoFilterInternalWithRoleClaimsAuthenticatesWithoutLoadingUser() throws ServletException, IOException {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        when(request.getHeader("Authorization")).thenReturn("Bearer valid-token");
+        when(jwtUtil.parseToken("valid-token")).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("testUser");
+        when(jwtUtil.extractAuthorities(claims)).thenReturn(authorities);
+        when(jwtUtil.extractTokenVersion(claims)).thenReturn(0L);
+
+        jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+        assertEquals("testUser", SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        assertEquals(authorities, List.copyOf(SecurityContextHolder.getContext().getAuthentication().getAuthorities()));
+        verify(customUserDetailsService, never()).loadUserWithoutPassword(anyString());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void testDoFilterInternalWithRevokedTokenVersionDoesNotSetAuthentication() throws ServletException, IOException {
+        tokenVersions.revokeAccessTokens("testUser");
+        when(request.getHeader("Authorization")).thenReturn("Bearer old-token");
+        when(jwtUtil.parseToken("old-token")).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("testUser");
+        when(jwtUtil.extractAuthorities(claims)).thenReturn(List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        when(jwtUtil.extractTokenVersion(claims)).thenReturn(0L);
+
+        jwtAuthFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(customUserDetailsService, never()).loadUserWithoutPassword(anyString());
+        verify(filterChain).doFilter(request, response);
+    }
 }
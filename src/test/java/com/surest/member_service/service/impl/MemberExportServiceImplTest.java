@@ -0,0 +1,84 @@
+package com.surest.member_service.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest.member_service.dto.ExportFormat;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.mapper.MemberMapper;
+import com.surest.member_service.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MemberExportServiceImplTest {
+
+    private MemberRepository memberRepository;
+    private EntityManager entityManager;
+    private MemberExportServiceImpl exportService;
+    private MemberEntity john;
+    private MemberEntity jane;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        entityManager = mock(EntityManager.class);
+        exportService = new MemberExportServiceImpl(memberRepository, new MemberMapper(),
+                new ObjectMapper().registerModule(new JavaTimeModule()), entityManager);
+
+        Timestamp now = Timestamp.valueOf("2024-01-01 10:00:00");
+        john = MemberEntity.builder().memberId(UUID.randomUUID()).firstName("John").lastName("Doe")
+                .dateOfBirth(LocalDate.of(1990, 1, 1)).email("john@example.com").createdAt(now).updatedAt(now).build();
+        jane = MemberEntity.builder().memberId(UUID.randomUUID()).firstName("Jane, \"JJ\"").lastName("Doe")
+                .dateOfBirth(LocalDate.of(1991, 2, 3)).email("jane@example.com").createdAt(now).updatedAt(now).version(3L).build();
+    }
+
+    @Test
+    void exportNdjsonWritesOneObjectPerLineAndDetachesRows() throws Exception {
+        when(memberRepository.streamAllForExport()).thenReturn(Stream.of(john, jane));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.exportMembers(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"email\":\"john@example.com\""));
+        verify(entityManager).detach(john);
+        verify(entityManager).detach(jane);
+    }
+
+    @Test
+    void exportCsvWritesHeaderAndQuotesSpecialCharacters() throws Exception {
+        when(memberRepository.streamAllForExport()).thenReturn(Stream.of(jane));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportMembers(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(MemberExportServiceImpl.CSV_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith(jane.getMemberId() + ",\"Jane, \"\"JJ\"\"\",Doe,1991-02-03,jane@example.com,"));
+        // Same concurrency token NDJSON carries, for If-Match on a later update
+        assertTrue(lines[1].endsWith(",3"));
+    }
+
+    @Test
+    void exportClosesTheCursor() throws Exception {
+        Stream<MemberEntity> cursor = Stream.of(john);
+        Runnable onClose = mock(Runnable.class);
+        when(memberRepository.streamAllForExport()).thenReturn(cursor.onClose(onClose));
+
+        exportService.exportMembers(ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        verify(onClose).run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.surest.member_service.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.surest.member_service.dto.MemberImportResponse;
+import com.surest.member_service.dto.MemberImportRowResult;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.mapper.MemberMapper;
+import com.surest.member_service.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class MemberImportServiceImplTest {
+
+    private MemberRepository memberRepository;
+    private EntityManager entityManager;
+    private MemberNameIndex memberNameIndex;
+    private MemberImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        entityManager = mock(EntityManager.class);
+        memberNameIndex = mock(MemberNameIndex.class);
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+
+        importService = new MemberImportServiceImpl(
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                memberRepository,
+                new MemberMapper(),
+                memberNameIndex,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                entityManager);
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+    }
+
+    private static String row(String first, String email) {
+        return "{\"firstName\":\"" + first + "\",\"lastName\":\"Doe\",\"dateOfBirth\":\"1990-01-01\",\"email\":\"" + email + "\"}";
+    }
+
+    private MemberImportResponse importBody(String body) throws Exception {
+        return importService.importMembers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void importNdjsonInsertsInBatches() throws Exception {
+        String body = String.join("\n", row("A", "a@x.com"), row("B", "b@x.com"), row("C", "c@x.com"));
+
+        MemberImportResponse response = importBody(body);
+
+        assertTrue(response.isCompleted());
+        assertEquals(3, response.getReceived());
+        assertEquals(3, response.getCreated());
+        assertTrue(response.getRejectedRows().isEmpty());
+        verify(memberRepository, times(2)).saveAllAndFlush(anyList());
+        verify(entityManager, times(2)).clear();
+        verify(memberNameIndex, times(3)).indexAfterCommit(any(MemberEntity.class));
+    }
+
+    @Test
+    void importJsonArrayReportsInvalidAndDuplicateRows() throws Exception {
+        when(memberRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("taken@x.com"));
+        String body = "[" + String.join(",",
+                row("A", "a@x.com"),
+                row("", "bad"),
+                row("A2", "a@x.com"),
+                row("T", "taken@x.com")) + "]";
+
+        MemberImportResponse response = importBody(body);
+
+        assertTrue(response.isCompleted());
+        assertEquals(4, response.getReceived());
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getDuplicates());
+        assertEquals(1, response.getInvalid());
+        List<MemberImportRowResult> rejected = response.getRejectedRows();
+        assertEquals(List.of(2L, 3L, 4L), rejected.stream().map(MemberImportRowResult::getRow).sorted().toList());
+        assertEquals(MemberImportRowResult.Status.INVALID,
+                rejected.stream().filter(r -> r.getRow() == 2).findFirst().orElseThrow().getStatus());
+    }
+
+    @Test
+    void malformedBodyKeepsEarlierRowsAndMarksIncomplete() throws Exception {
+        String body = row("A", "a@x.com") + "\n{\"firstName\": ";
+
+        MemberImportResponse response = importBody(body);
+
+        assertFalse(response.isCompleted());
+        assertEquals(1, response.getCreated());
+        assertEquals(MemberImportRowResult.Status.MALFORMED, response.getRejectedRows().get(0).getStatus());
+    }
+}
@@ -0,0 +1,120 @@
+package com.surest.member_service.service.impl;
+
+import com.surest.member_service.dto.MemberSuggestion;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.repository.MemberNameView;
+import com.surest.member_service.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberNameIndexTest {
+
+    private final UUID doeId = UUID.randomUUID();
+    private final UUID dorisId = UUID.randomUUID();
+
+    private MemberRepository memberRepository;
+    private PlatformTransactionManager transactionManager;
+    private MemberNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        index = new MemberNameIndex(memberRepository, transactionManager);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        when(memberRepository.streamAllNames()).thenReturn(Stream.of(
+                view(doeId, "John", "Doe"),
+                view(dorisId, "Doris", "Smith")));
+        index.rebuild();
+    }
+
+    @Test
+    void suggestMatchesLastNamesBeforeFirstNames() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.suggest("Do", 10))
+                .extracting(MemberSuggestion::getMemberId)
+                .containsExactly(doeId, dorisId);
+    }
+
+    @Test
+    void suggestHonoursLimit() {
+        assertThat(index.suggest("do", 1)).hasSize(1);
+    }
+
+    @Test
+    void updatesReplaceOldNamesAndDeletesRemoveThem() {
+        index.indexAfterCommit(MemberEntity.builder().memberId(doeId).firstName("John").lastName("Brown").build());
+
+        assertThat(index.suggest("doe", 10)).isEmpty();
+        assertThat(index.suggest("bro", 10)).extracting(MemberSuggestion::getLastName).containsExactly("Brown");
+
+        index.removeAfterCommit(doeId);
+
+        assertThat(index.suggest("bro", 10)).isEmpty();
+        assertThat(index.suggest("jo", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildStreamsNamesInAReadOnlyTransaction() {
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    void rebuildDropsMembersNoLongerInTheDatabase() {
+        when(memberRepository.streamAllNames()).thenReturn(Stream.of(view(dorisId, "Doris", "Smith")));
+
+        index.rebuild();
+
+        assertThat(index.suggest("do", 10)).extracting(MemberSuggestion::getMemberId).containsExactly(dorisId);
+    }
+
+    @Test
+    void writesCommittedDuringRebuildAreReplayedOntoTheNewIndex() {
+        UUID newId = UUID.randomUUID();
+        // Doe is deleted and a new member created after Doe's row was already streamed
+        when(memberRepository.streamAllNames()).thenReturn(Stream.of(
+                        view(doeId, "John", "Doe"),
+                        view(dorisId, "Doris", "Smith"))
+                .peek(view -> {
+                    if (view.getMemberId().equals(dorisId)) {
+                        index.removeAfterCommit(doeId);
+                        index.indexAfterCommit(MemberEntity.builder().memberId(newId).firstName("Dora").lastName("Lee").build());
+                    }
+                }));
+
+        index.rebuild();
+
+        assertThat(index.suggest("do", 10)).extracting(MemberSuggestion::getMemberId).containsExactly(newId, dorisId);
+    }
+
+    private static MemberNameView view(UUID id, String firstName, String lastName) {
+        return new MemberNameView() {
+            @Override
+            public UUID getMemberId() {
+                return id;
+            }
+
+            @Override
+            public String getFirstName() {
+                return firstName;
+            }
+
+            @Override
+            public String getLastName() {
+                return lastName;
+            }
+        };
+    }
+}
@@ -0,0 +1,162 @@
+package com.surest.member_service.service.impl;
+
+import com.surest.member_service.config.CacheConfig;
+import com.surest.member_service.dto.MemberBatchResponse;
+import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.exception.MemberNotFoundException;
+import com.surest.member_service.mapper.MemberMapper;
+import com.surest.member_service.repository.MemberRepository;
+import com.surest.member_service.service.MemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exercises the caching proxy around {@link MemberServiceImpl#getMemberById} and the batch lookup
+ * with a real Caffeine cache manager and concurrent callers.
+ */
+@SpringJUnitConfig({CacheConfig.class, MemberServiceImpl.class, MemberMapper.class, MemberCacheLoader.class, MemberNameIndex.class})
+class MemberServiceCachingTest {
+
+    private static final int CALLERS = 16;
+
+    @MockitoBean
+    private MemberRepository memberRepository;
+
+    // Required by MemberNameIndex, which is disabled here
+    @MockitoBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void concurrentMissesForSameMemberIssueSingleQuery() throws Exception {
+        UUID memberId = UUID.randomUUID();
+        MemberEntity member = MemberEntity.builder()
+                .memberId(memberId)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@example.com")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .build();
+        when(memberRepository.findById(memberId)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return Optional.of(member);
+        });
+
+        List<Object> results = callConcurrently(() -> memberService.getMemberById(memberId));
+
+        assertThat(results).hasSize(CALLERS).allSatisfy(result ->
+                assertThat(result).hasFieldOrPropertyWithValue("memberId", memberId));
+        verify(memberRepository, times(1)).findById(memberId);
+    }
+
+    @Test
+    void concurrentMissesForAbsentMemberIssueSingleQuery() throws Exception {
+        UUID memberId = UUID.randomUUID();
+        when(memberRepository.findById(memberId)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return Optional.empty();
+        });
+
+        List<Object> results = callConcurrently(() -> {
+            try {
+                return memberService.getMemberById(memberId);
+            } catch (MemberNotFoundException e) {
+                return e;
+            }
+        });
+
+        assertThat(results).hasSize(CALLERS).allSatisfy(result ->
+                assertThat(result).isInstanceOf(MemberNotFoundException.class));
+        assertThatThrownBy(() -> memberService.getMemberById(memberId)).isInstanceOf(MemberNotFoundException.class);
+        verify(memberRepository, times(1)).findById(memberId);
+    }
+
+    @Test
+    void batchLookupServesHitsFromCacheAndLoadsMissesInOneQuery() {
+        MemberEntity cached = member(UUID.randomUUID(), "cached@example.com");
+        MemberEntity loaded = member(UUID.randomUUID(), "loaded@example.com");
+        UUID absent = UUID.randomUUID();
+        when(memberRepository.findById(cached.getMemberId())).thenReturn(Optional.of(cached));
+        memberService.getMemberById(cached.getMemberId());
+        when(memberRepository.findAllById(List.of(loaded.getMemberId(), absent))).thenReturn(List.of(loaded));
+
+        MemberBatchResponse response = memberService.getMembersByIds(List.of(loaded.getMemberId(), absent, cached.getMemberId()));
+
+        assertThat(response.getMembers()).extracting("memberId").containsExactly(loaded.getMemberId(), cached.getMemberId());
+        assertThat(response.getMissing()).containsExactly(absent);
+        // Misses must not go through the members cache loader one by one
+        verify(memberRepository, never()).findById(loaded.getMemberId());
+        verify(memberRepository, never()).findById(absent);
+
+        memberService.getMemberById(loaded.getMemberId());
+        assertThatThrownBy(() -> memberService.getMemberById(absent)).isInstanceOf(MemberNotFoundException.class);
+        verify(memberRepository, never()).findById(loaded.getMemberId());
+        verify(memberRepository, never()).findById(absent);
+    }
+
+    private static MemberEntity member(UUID memberId, String email) {
+        return MemberEntity.builder()
+                .memberId(memberId)
+                .firstName("John")
+                .lastName("Doe")
+                .email(email)
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .build();
+    }
+
+    private List<Object> callConcurrently(Callable<Object> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,32 +1,50 @@
 package com.surest.member_service.service.impl;
 
 
+import com.surest.member_service.config.CacheConfig;
+import com.surest.member_service.dto.CountMode;
+import com.surest.member_service.dto.MemberBatchResponse;
 import com.surest.member_service.dto.MemberRequest;
 import com.surest.member_service.dto.MemberResponse;
+import com.surest.member_service.dto.MemberSliceResponse;
+import com.surest.member_service.dto.MemberSuggestion;
+import com.surest.member_service.dto.NameMatch;
 import com.surest.member_service.entities.MemberEntity;
+import com.surest.member_service.exception.InvalidRequestException;
 import com.surest.member_service.exception.MemberNotFoundException;
+import com.surest.member_service.exception.PreconditionFailedException;
 import com.surest.member_service.exception.ResourceAlreadyExistsException;
 import com.surest.member_service.mapper.MemberMapper;
 import com.surest.member_service.repository.MemberRepository;
+import com.surest.member_service.util.MemberCursor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -46,6 +64,12 @@ class MemberServiceImplTest {
     @Mock
     private MemberMapper memberMapper;
 
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @Mock
+    private MemberNameIndex memberNameIndex;
+
     private MemberRequest request;
     private MemberEntity member;
     private MemberResponse response;
@@ -81,14 +105,111 @@ class MemberServiceImplTest {
         when(memberRepository.findAll(Mockito.any(Specification.class), eq(pageable)))
                 .thenReturn(page);
         //When
-        Page<MemberResponse> result = memberService.getMembers("John", "Doe", pageable);
+        Slice<MemberResponse> result = memberService.getMembers("John", "Doe", NameMatch.CONTAINS, CountMode.EXACT, pageable);
 
         //Then
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, assertInstanceOf(Page.class, result).getTotalElements());
         assertEquals("John", result.getContent().get(0).getFirstName());
         verify(memberRepository).findAll(Mockito.any(Specification.class), eq(pageable));
     }
 
+    @Test
+    void testGetMembersWithoutCountSkipsCountQuery() {
+        Pageable pageable = PageRequest.of(0, 1);
+        when(memberRepository.findWindow(any(Specification.class), any(Sort.class), eq(0L), eq(2)))
+                .thenReturn(List.of(member, member));
+
+        Slice<MemberResponse> result = memberService.getMembers("John", null, NameMatch.CONTAINS, CountMode.NONE, pageable);
+
+        assertFalse(result instanceof Page);
+        assertTrue(result.hasNext());
+        assertEquals(1, result.getNumberOfElements());
+        verify(memberRepository, never()).count(any(Specification.class));
+        verify(memberRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void testGetMembersWithEstimatedCountCachesTotalPerFilter() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(memberRepository.findWindow(any(Specification.class), any(Sort.class), eq(0L), eq(11)))
+                .thenReturn(List.of(member));
+        when(memberRepository.count(any(Specification.class))).thenReturn(42L);
+
+        Slice<MemberResponse> first = memberService.getMembers("John", null, NameMatch.PREFIX, CountMode.ESTIMATED, pageable);
+        // Trimmed and lower-cased by MemberSpecification as well, so this is the same "john%" pattern
+        Slice<MemberResponse> second = memberService.getMembers(" JOHN ", null, NameMatch.PREFIX, CountMode.ESTIMATED, pageable);
+
+        assertEquals(42L, ((Page<MemberResponse>) first).getTotalElements());
+        assertEquals(42L, ((Page<MemberResponse>) second).getTotalElements());
+        verify(memberRepository, times(1)).count(any(Specification.class));
+
+        memberService.getMembers("Johnny", null, NameMatch.PREFIX, CountMode.ESTIMATED, pageable);
+        memberService.getMembers("John", null, NameMatch.CONTAINS, CountMode.ESTIMATED, pageable);
+        verify(memberRepository, times(3)).count(any(Specification.class));
+    }
+
+    @Test
+    void testScrollMembersReturnsCursorWhenMoreRowsExist() {
+        MemberEntity next = new MemberEntity();
+        next.setMemberId(UUID.randomUUID());
+        next.setLastName("Smith");
+        when(memberRepository.findWindow(any(Specification.class), any(Sort.class), eq(0L), eq(2)))
+                .thenReturn(List.of(member, next));
+
+        MemberSliceResponse result = memberService.scrollMembers(null, null, NameMatch.CONTAINS, null, 1);
+
+        assertEquals(1, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(new MemberCursor("Doe", memberId), MemberCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void testScrollMembersLastSliceHasNoCursor() {
+        String cursor = new MemberCursor("Doe", UUID.randomUUID()).encode();
+        when(memberRepository.findWindow(any(Specification.class), any(Sort.class), eq(0L), eq(11)))
+                .thenReturn(List.of(member));
+
+        MemberSliceResponse result = memberService.scrollMembers("John", null, NameMatch.CONTAINS, cursor, 10);
+
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals("John", result.getContent().get(0).getFirstName());
+    }
+
+    @Test
+    void testScrollMembersRejectsMalformedCursor() {
+        assertThrows(InvalidRequestException.class, () -> memberService.scrollMembers(null, null, NameMatch.CONTAINS, "not-a-cursor", 10));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void testSuggestMembersUsesNameIndexWhenReady() {
+        MemberSuggestion suggestion = new MemberSuggestion(memberId, "John", "Doe");
+        when(memberNameIndex.isReady()).thenReturn(true);
+        when(memberNameIndex.suggest("do", 5)).thenReturn(List.of(suggestion));
+
+        assertEquals(List.of(suggestion), memberService.suggestMembers("do", 5));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void testSuggestMembersFallsBackToLastThenFirstNamePrefixQueries() {
+        MemberEntity doris = MemberEntity.builder()
+                .memberId(UUID.randomUUID())
+                .firstName("Doris")
+                .lastName("Smith")
+                .build();
+        when(memberNameIndex.isReady()).thenReturn(false);
+        when(memberRepository.findWindow(any(Specification.class), eq(Sort.by("lastName", "memberId")), eq(0L), eq(5)))
+                .thenReturn(List.of(member));
+        when(memberRepository.findWindow(any(Specification.class), eq(Sort.by("firstName", "memberId")), eq(0L), eq(5)))
+                .thenReturn(List.of(doris, member));
+
+        List<MemberSuggestion> result = memberService.suggestMembers("do", 5);
+
+        assertEquals(List.of("Doe", "Smith"), result.stream().map(MemberSuggestion::getLastName).toList());
+    }
+
     @Test
     void testGetMemberByIdSuccess() throws MemberNotFoundException {
         // Arrange
@@ -113,12 +234,20 @@ class MemberServiceImplTest {
         verify(memberRepository, times(1)).findById(memberId);
     }
 
+    @Test
+    void testGetMemberByIdNotFoundIsServedFromNegativeCache() {
+        when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+
+        assertThrows(MemberNotFoundException.class, () -> memberService.getMemberById(memberId));
+        assertThrows(MemberNotFoundException.class, () -> memberService.getMemberById(memberId));
+        verify(memberRepository, times(1)).findById(memberId);
+    }
+
     @Test
     void testCreateMemberSuccess() throws MemberNotFoundException {
         //Arrange
-        when(memberRepository.findByEmail(request.getEmail())).thenReturn(Optional.empty());
         when(memberMapper.toEntity(request)).thenReturn(member);
-        when(memberRepository.save(member)).thenReturn(member);
+        when(memberRepository.saveAndFlush(member)).thenReturn(member);
         when(memberMapper.toResponse(member)).thenReturn(response);
 
         //When
@@ -127,55 +256,122 @@ class MemberServiceImplTest {
         //Then
         assertNotNull(result);
         assertEquals(memberId, result.getMemberId());
+        verify(memberRepository, never()).findByEmail(any());
+        verify(memberNameIndex).indexAfterCommit(member);
     }
 
     @Test
     void testCreateMemberAlreadyExists() {
         //Arrange
-        when(memberRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(member));
+        when(memberMapper.toEntity(request)).thenReturn(member);
+        when(memberRepository.saveAndFlush(member)).thenThrow(new DataIntegrityViolationException("insert failed",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), "member_email_key")));
 
         //Expect exception
         assertThrows(ResourceAlreadyExistsException.class, () -> memberService.createMember(request));
-        verify(memberRepository, never()).save(any());
+        verify(memberNameIndex, never()).indexAfterCommit(any());
+    }
+
+    @Test
+    void testCreateMemberRethrowsOtherConstraintViolations() {
+        when(memberMapper.toEntity(request)).thenReturn(member);
+        when(memberRepository.saveAndFlush(member)).thenThrow(new DataIntegrityViolationException("insert failed",
+                new ConstraintViolationException("null value", new SQLException("null value"), "member_last_name_not_null")));
+
+        assertThrows(DataIntegrityViolationException.class, () -> memberService.createMember(request));
     }
 
     @Test
     void testUpdateMemberSuccess() throws MemberNotFoundException {
         //Arrange
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        doNothing().when(memberMapper).updateEntity(member,request);
-        when(memberRepository.save(member)).thenReturn(member);
+        MemberEntity values = MemberEntity.builder().firstName("John").build();
+        when(memberMapper.toEntity(request)).thenReturn(values);
+        when(memberRepository.updateInPlace(memberId, values, null)).thenReturn(Optional.of(member));
         when(memberMapper.toResponse(member)).thenReturn(response);
 
         //When
-        MemberResponse result = memberService.updateMember(memberId, request);
+        MemberResponse result = memberService.updateMember(memberId, request, null);
 
         //Then
         assertNotNull(result);
         assertEquals(memberId, result.getMemberId());
+        verify(memberRepository, never()).findById(any());
+        verify(memberRepository, never()).save(any());
+        verify(memberNameIndex).indexAfterCommit(member);
     }
 
     @Test
     void updateMemberShouldThrowExceptionWhenMemberNotFound() {
-        when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+        when(memberMapper.toEntity(request)).thenReturn(member);
+        when(memberRepository.updateInPlace(memberId, member, null)).thenReturn(Optional.empty());
 
-        assertThrows(MemberNotFoundException.class, () -> memberService.updateMember(memberId, request));
-        verify(memberRepository, never()).save(any());
+        assertThrows(MemberNotFoundException.class, () -> memberService.updateMember(memberId, request, null));
+        verify(memberNameIndex, never()).indexAfterCommit(any());
+    }
+
+    @Test
+    void updateMemberShouldThrowConflictWhenEmailTaken() {
+        when(memberMapper.toEntity(request)).thenReturn(member);
+        when(memberRepository.updateInPlace(memberId, member, null)).thenThrow(new DataIntegrityViolationException("update failed",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), "member_email_key")));
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> memberService.updateMember(memberId, request, null));
     }
 
     @Test
     void testDeleteMemberSuccess()  {
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        memberService.deleteMember(memberId);
+        when(memberRepository.deleteByMemberId(memberId)).thenReturn(1);
+        memberService.deleteMember(memberId, null);
 
-        verify(memberRepository).delete(member);
+        verify(memberRepository, never()).findById(any());
+        verify(memberNameIndex).removeAfterCommit(memberId);
     }
 
     @Test
     void testDeleteMemberShouldThrowExceptionWhenMemberNotFound() {
-        when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+        when(memberRepository.deleteByMemberId(memberId)).thenReturn(0);
+
+        assertThrows(MemberNotFoundException.class, () -> memberService.deleteMember(memberId, null));
+        verify(memberNameIndex, never()).removeAfterCommit(any());
+    }
+
+    @Test
+    void updateMemberShouldThrowPreconditionFailedWhenVersionIsStale() {
+        when(memberMapper.toEntity(request)).thenReturn(member);
+        when(memberRepository.updateInPlace(memberId, member, 3L)).thenReturn(Optional.empty());
+        when(memberRepository.existsById(memberId)).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class, () -> memberService.updateMember(memberId, request, 3L));
+    }
+
+    @Test
+    void deleteMemberWithVersionUsesConditionalDelete() {
+        when(memberRepository.deleteByMemberIdAndVersion(memberId, 3L)).thenReturn(0);
+        when(memberRepository.existsById(memberId)).thenReturn(false);
+
+        assertThrows(MemberNotFoundException.class, () -> memberService.deleteMember(memberId, 3L));
+        verify(memberRepository, never()).deleteByMemberId(any());
+    }
+
+    @Test
+    void getMembersByIdsRejectsOversizedBatch() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(501).toList();
+
+        assertThrows(InvalidRequestException.class, () -> memberService.getMembersByIds(ids));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void getMembersByIdsCollapsesDuplicatesAndSkipsKnownMissing() {
+        UUID knownMissing = UUID.randomUUID();
+        cacheManager.getCache(CacheConfig.MISSING_MEMBERS).put(knownMissing, Boolean.TRUE);
+        when(memberRepository.findAllById(List.of(memberId))).thenReturn(List.of(member));
+        when(memberMapper.toResponse(member)).thenReturn(response);
+
+        MemberBatchResponse result = memberService.getMembersByIds(List.of(memberId, knownMissing, memberId));
 
-        assertThrows(MemberNotFoundException.class, () -> memberService.deleteMember(memberId));
-        verify(memberRepository, never()).delete(any(MemberEntity.class));
+        assertEquals(List.of(response), result.getMembers());
+        assertEquals(List.of(knownMissing), result.getMissing());
+        assertSame(response, cacheManager.getCache(CacheConfig.MEMBERS).get(memberId).get());
     }
 }
@@ -0,0 +1,146 @@
+package com.surest.member_service.service.impl;
+
+import com.surest.member_service.entities.RefreshTokenEntity;
+import com.surest.member_service.entities.UserEntity;
+import com.surest.member_service.exception.InvalidRefreshTokenException;
+import com.surest.member_service.repository.RefreshTokenRepository;
+import com.surest.member_service.repository.UserRepository;
+import com.surest.member_service.service.RefreshTokenService;
+import com.surest.member_service.util.TokenVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceImplTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private TokenVersionRegistry tokenVersions = new TokenVersionRegistry();
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        user = UserEntity.builder().userId(UUID.randomUUID()).userName("john_doe").build();
+        when(userRepository.getReferenceById(user.getUserId())).thenReturn(user);
+    }
+
+    @Test
+    void issueStoresOnlyTheHashOfANewFamily() {
+        String raw = refreshTokenService.issue(user.getUserId());
+
+        ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(RefreshTokenServiceImpl.hash(raw)).isNotEqualTo(raw);
+        assertThat(saved.getValue().getFamilyId()).isNotNull();
+        assertThat(saved.getValue().getExpiresAt()).isAfter(new Timestamp(System.currentTimeMillis()));
+    }
+
+    @Test
+    void rotateRevokesCurrentTokenAndIssuesSuccessorInSameFamily() {
+        RefreshTokenEntity current = stored("old", null, future());
+        when(refreshTokenRepository.markRevoked(eq(current.getId()), any(Timestamp.class))).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("old");
+
+        assertThat(rotation.user()).isSameAs(user);
+        assertThat(rotation.refreshToken()).isNotEqualTo("old");
+        ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getFamilyId()).isEqualTo(current.getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void rotateOfAlreadyRotatedTokenRevokesWholeFamily() {
+        RefreshTokenEntity current = stored("old", new Timestamp(System.currentTimeMillis()), future());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("old"));
+
+        verify(refreshTokenRepository).revokeFamily(eq(current.getFamilyId()), any(Timestamp.class));
+        verify(refreshTokenRepository, never()).save(any());
+        assertThat(tokenVersions.isCurrent("john_doe", 0L)).isFalse();
+    }
+
+    @Test
+    void rotateThatLosesConcurrentRaceRevokesWholeFamily() {
+        RefreshTokenEntity current = stored("old", null, future());
+        when(refreshTokenRepository.markRevoked(eq(current.getId()), any(Timestamp.class))).thenReturn(0);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("old"));
+
+        verify(refreshTokenRepository).revokeFamily(eq(current.getFamilyId()), any(Timestamp.class));
+    }
+
+    @Test
+    void rotateRejectsExpiredAndUnknownTokens() {
+        stored("expired", null, new Timestamp(System.currentTimeMillis() - 1000));
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenServiceImpl.hash("unknown"))).thenReturn(Optional.empty());
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("expired"));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("unknown"));
+        verify(refreshTokenRepository, never()).markRevoked(any(), any());
+    }
+
+    @Test
+    void revokeEndsTheFamily() {
+        RefreshTokenEntity current = stored("old", null, future());
+
+        refreshTokenService.revoke("old");
+
+        verify(refreshTokenRepository).revokeFamily(eq(current.getFamilyId()), any(Timestamp.class));
+        verify(tokenVersions).revokeAccessTokens("john_doe");
+    }
+
+    @Test
+    void purgeKeepsRevokedTokensForTheGracePeriod() {
+        ArgumentCaptor<Timestamp> now = ArgumentCaptor.forClass(Timestamp.class);
+        ArgumentCaptor<Timestamp> revokedBefore = ArgumentCaptor.forClass(Timestamp.class);
+        when(refreshTokenRepository.deleteStale(any(Timestamp.class), any(Timestamp.class))).thenReturn(3);
+
+        assertThat(refreshTokenService.purgeStale()).isEqualTo(3);
+
+        verify(refreshTokenRepository).deleteStale(now.capture(), revokedBefore.capture());
+        assertThat(now.getValue().getTime() - revokedBefore.getValue().getTime()).isEqualTo(7L * 24 * 3_600_000);
+    }
+
+    private RefreshTokenEntity stored(String raw, Timestamp revokedAt, Timestamp expiresAt) {
+        RefreshTokenEntity entity = RefreshTokenEntity.builder()
+                .id(UUID.randomUUID())
+                .tokenHash(RefreshTokenServiceImpl.hash(raw))
+                .user(user)
+                .familyId(UUID.randomUUID())
+                .expiresAt(expiresAt)
+                .revokedAt(revokedAt)
+                .build();
+        when(refreshTokenRepository.findByTokenHash(entity.getTokenHash())).thenReturn(Optional.of(entity));
+        return entity;
+    }
+
+    private static Timestamp future() {
+        return new Timestamp(System.currentTimeMillis() + 60_000);
+    }
+}
@@ -0,0 +1,149 @@
+package com.surest.member_service.service.impl;
+
+import com.surest.member_service.config.CacheConfig;
+import com.surest.member_service.dto.UserRequest;
+import com.surest.member_service.entities.RoleEntity;
+import com.surest.member_service.entities.UserEntity;
+import com.surest.member_service.mapper.MemberMapper;
+import com.surest.member_service.repository.MemberRepository;
+import com.surest.member_service.repository.RoleRepository;
+import com.surest.member_service.repository.UserRepository;
+import com.surest.member_service.service.UserService;
+import com.surest.member_service.util.TokenVersionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exercises the {@code users} cache around {@link CustomUserDetailsService#loadUserWithoutPassword}
+ * through the Spring caching proxy, including eviction from {@code evictUser} and user registration,
+ * and checks that the password-checking {@code loadUserByUsername} stays uncached.
+ */
+@SpringJUnitConfig({CacheConfig.class, UserDetailsCachingTest.ClassProxies.class, CustomUserDetailsService.class,
+        UserServiceImpl.class, TokenVersionRegistry.class, MemberCacheLoader.class, MemberMapper.class})
+class UserDetailsCachingTest {
+
+    // Class-based proxies as in the application, where Spring Boot sets proxyTargetClass
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    static class ClassProxies {
+    }
+
+    private static final String USERNAME = "john_doe";
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private RoleRepository roleRepository;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    // Required by the members cache loader wired into CacheConfig
+    @MockitoBean
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void secondLookupIsServedFromCache() {
+        when(userRepository.findByUserName(USERNAME)).thenReturn(Optional.of(user()));
+
+        UserDetails first = userDetailsService.loadUserWithoutPassword(USERNAME);
+        UserDetails second = userDetailsService.loadUserWithoutPassword(USERNAME);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getPassword()).isEmpty();
+        verify(userRepository, times(1)).findByUserName(USERNAME);
+    }
+
+    @Test
+    void passwordLookupAlwaysReadsTheRepository() {
+        when(userRepository.findByUserName(USERNAME)).thenReturn(Optional.of(user()));
+        userDetailsService.loadUserWithoutPassword(USERNAME);
+
+        assertThat(userDetailsService.loadUserByUsername(USERNAME).getPassword()).isEqualTo("hash");
+        assertThat(userDetailsService.loadUserByUsername(USERNAME).getPassword()).isEqualTo("hash");
+
+        verify(userRepository, times(3)).findByUserName(USERNAME);
+    }
+
+    @Test
+    void unknownUsernameIsNotCached() {
+        when(userRepository.findByUserName(USERNAME)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userDetailsService.loadUserWithoutPassword(USERNAME)).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userDetailsService.loadUserWithoutPassword(USERNAME)).isInstanceOf(UsernameNotFoundException.class);
+
+        verify(userRepository, times(2)).findByUserName(USERNAME);
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(USERNAME)).isNull();
+    }
+
+    @Test
+    void evictUserDropsCachedEntry() {
+        when(userRepository.findByUserName(USERNAME)).thenReturn(Optional.of(user()));
+        userDetailsService.loadUserWithoutPassword(USERNAME);
+
+        userDetailsService.evictUser(USERNAME);
+        userDetailsService.loadUserWithoutPassword(USERNAME);
+
+        verify(userRepository, times(2)).findByUserName(USERNAME);
+    }
+
+    @Test
+    void registrationDropsCachedEntry() {
+        when(userRepository.findByUserName(USERNAME)).thenReturn(Optional.of(user()));
+        userDetailsService.loadUserWithoutPassword(USERNAME);
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(USERNAME)).isNotNull();
+
+        // The cached user was removed behind the cache's back and the name is registered again
+        RoleEntity role = RoleEntity.builder().id(UUID.randomUUID()).name("USER").build();
+        when(userRepository.findByUserName(USERNAME)).thenReturn(Optional.empty());
+        when(roleRepository.findByNameIn(Set.of("USER"))).thenReturn(Set.of(role));
+        when(passwordEncoder.encode("secret")).thenReturn("encoded");
+        when(userRepository.save(any(UserEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        userService.registerUser(UserRequest.builder().username(USERNAME).password("secret").roles(Set.of("USER")).build());
+
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(USERNAME)).isNull();
+    }
+
+    private static UserEntity user() {
+        return UserEntity.builder()
+                .userId(UUID.randomUUID())
+                .userName(USERNAME)
+                .passwordHash("hash")
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.surest.member_service.util;
+
+import com.surest.member_service.config.QueryBudgetProperties;
+import com.surest.member_service.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCountFilterTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryBudgetProperties budget = new QueryBudgetProperties();
+    private final QueryCountFilter filter = new QueryCountFilter(inspector, registry, budget);
+
+    @Test
+    void recordsStatementsPreparedDuringTheRequestPerUriTemplate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/members/42");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/members/{id}");
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+        });
+
+        DistributionSummary summary = registry.get("hibernate.statements.per.request")
+                .tag("uri", "/api/v1/members/{id}")
+                .tag("method", "GET")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void statementsOutsideARequestAreNotCounted() {
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+        assertThat(inspector.current()).isZero();
+    }
+
+    @Test
+    void scopeIsClearedWhenTheChainFails() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/members");
+
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                inspector.inspect("select 1");
+                throw new IllegalStateException("boom");
+            });
+        } catch (Exception ignored) {
+            // expected
+        }
+
+        assertThat(inspector.current()).isZero();
+        assertThat(registry.get("hibernate.statements.per.request").tag("uri", "UNKNOWN").summary().totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void writesQueryCountHeaderBeforeTheBodyCommitsTheResponse() throws Exception {
+        budget.setResponseHeader(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/members"), response, (req, res) -> {
+            inspector.inspect("select 1");
+            res.getWriter().write("[]");
+            res.flushBuffer();
+            inspector.inspect("select 2");
+        });
+
+        assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isEqualTo("1");
+    }
+
+    @Test
+    void writesQueryCountHeaderForResponsesWithoutBody() throws Exception {
+        budget.setResponseHeader(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/members/42"), response,
+                (req, res) -> inspector.inspect("delete from member where id = ?"));
+
+        assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isEqualTo("1");
+    }
+
+    @Test
+    void failModeThrowsWhenEndpointBudgetIsExceeded() {
+        budget.setMode(QueryBudgetProperties.Mode.FAIL);
+        budget.getEndpoints().put("GET /api/v1/members/{id}", 1);
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/members/42"),
+                new MockHttpServletResponse(), (req, res) -> {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/members/{id}");
+                    inspector.inspect("select member");
+                    inspector.inspect("select roles");
+                }))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("ran 2 SQL statements, budget is 1");
+    }
+
+    @Test
+    void failModeOnlyLogsWhenTheResponseIsAlreadyCommitted() throws Exception {
+        budget.setMode(QueryBudgetProperties.Mode.FAIL);
+        budget.setDefaultBudget(0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/members"), response, (req, res) -> {
+            inspector.inspect("select 1");
+            res.flushBuffer();
+        });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(registry.get("hibernate.statements.budget.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void logModeOnlyCountsBudgetOverruns() throws Exception {
+        budget.setDefaultBudget(0);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/members"), new MockHttpServletResponse(),
+                (req, res) -> inspector.inspect("select 1"));
+
+        assertThat(registry.get("hibernate.statements.budget.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void negativeBudgetDisablesTheCheck() {
+        budget.setDefaultBudget(0);
+        budget.getEndpoints().put("POST /api/v1/members/import", -1);
+
+        assertThat(budget.budgetFor("POST", "/api/v1/members/import")).isNull();
+        assertThat(budget.budgetFor("GET", "/api/v1/members")).isZero();
+    }
+}
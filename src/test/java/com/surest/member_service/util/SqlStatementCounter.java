@@ -0,0 +1,42 @@
+package com.surest.member_service.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test helper that counts every SQL statement Hibernate prepares, on any thread, between
+ * {@link #reset()} and an assertion. Unlike {@link QueryCountInspector} it also sees work done on
+ * the authentication executor, so it can pin down complete login and refresh flows.
+ * <pre>
+ * counter.reset();
+ * mockMvc.perform(get("/api/v1/members/{id}", id)...);
+ * counter.assertStatements(1);
+ * </pre>
+ */
+public final class SqlStatementCounter {
+
+    private final Statistics statistics;
+
+    public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long statements() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    public void assertStatements(long expected) {
+        assertThat(statements())
+                .as("SQL statements since reset (%d queries, %d entity loads, %d collection loads)",
+                        statistics.getQueryExecutionCount(), statistics.getEntityLoadCount(), statistics.getCollectionLoadCount())
+                .isEqualTo(expected);
+    }
+}